@@ -28,10 +28,44 @@ public class CodeFileWriter {
 
     private static final String DEFAULT_INDENT = "    "; // 默认4个空格缩进
     
-    private final String baseOutputDir;
+    /**
+     * 源码根目录，例如 outputDir/src/main/java
+     */
+    private final Path sourceRoot;
+
+    private final GenerationStatistics statistics;
+
+    /**
+     * 试运行时收集文件变化，为 null 时正常写入文件
+     */
+    private final GenerationDiff diff;
 
     public CodeFileWriter(String baseOutputDir) {
-        this.baseOutputDir = baseOutputDir;
+        this(baseOutputDir, new GenerationStatistics());
+    }
+
+    public CodeFileWriter(String baseOutputDir, GenerationStatistics statistics) {
+        this(baseOutputDir, statistics, null);
+    }
+
+    /**
+     * @param baseOutputDir 输出根目录
+     * @param statistics    统计信息
+     * @param diff          不为 null 时为试运行模式，只与已有文件比较并记录变化，不写入磁盘
+     */
+    public CodeFileWriter(String baseOutputDir, GenerationStatistics statistics, GenerationDiff diff) {
+        this(Paths.get(baseOutputDir, SRC_MAIN_JAVA), statistics, diff);
+    }
+
+    /**
+     * @param sourceRoot 源码根目录，用于写入 src/main/java 以外的位置（例如测试源码）
+     * @param statistics 统计信息
+     * @param diff       不为 null 时为试运行模式，只与已有文件比较并记录变化，不写入磁盘
+     */
+    public CodeFileWriter(Path sourceRoot, GenerationStatistics statistics, GenerationDiff diff) {
+        this.sourceRoot = sourceRoot;
+        this.statistics = statistics;
+        this.diff = diff;
     }
 
     /**
@@ -39,9 +73,10 @@ public class CodeFileWriter {
      *
      * @param codeGenerator 代码生成器
      * @param classMetadata 类元数据信息
+     * @return 生成文件相对于已有文件的状态
      * @throws IOException IO异常
      */
-    public void generateFile(CodeGenerator codeGenerator, ClassMetadata classMetadata) throws IOException {
+    public GeneratedFileStatus generateFile(CodeGenerator codeGenerator, ClassMetadata classMetadata) throws IOException {
         String packageName = codeGenerator.getPackageName();
         String className = codeGenerator.getClassName(classMetadata);
 
@@ -52,13 +87,10 @@ public class CodeFileWriter {
         JavaFile javaFile = JavaFile.builder(packageName, typeSpec)
                 .indent(DEFAULT_INDENT)
                 .build();
-
-        // 计算新内容的哈希值
         byte[] newContentBytes = javaFile.toString().getBytes(StandardCharsets.UTF_8);
-        byte[] newHash = calculateHash(newContentBytes);
 
         // 检查文件是否已存在
-        Path outputDirPath = Paths.get(baseOutputDir, SRC_MAIN_JAVA);
+        Path outputDirPath = sourceRoot;
         Path packagePath = outputDirPath;
         if (!packageName.isEmpty()) {
             for (String packageComponent : packageName.split("\\.")) {
@@ -66,20 +98,41 @@ public class CodeFileWriter {
             }
         }
         Path filePath = packagePath.resolve(className + ".java");
+        GeneratedFileStatus status = compareWithExisting(filePath, newContentBytes);
 
-        if (filePath.toFile().exists()) {
-            byte[] existingContentBytes = Files.readAllBytes(filePath);
-            byte[] existingHash = calculateHash(existingContentBytes);
-            if (Arrays.equals(newHash, existingHash)) {
-                log.info("文件内容未改变，跳过生成: {}", filePath);
-                return;
-            }
+        if (diff != null) {
+            diff.record(status, filePath);
+            log.debug("{}: {}", status, filePath);
+            return status;
+        }
+
+        if (status == GeneratedFileStatus.UNCHANGED) {
+            log.info("文件内容未改变，跳过生成: {}", filePath);
+            statistics.recordSkipped();
+            return status;
         }
 
         // 写入文件
         javaFile.writeTo(outputDirPath.toFile());
+        statistics.recordWritten(newContentBytes.length);
 
         log.info("生成文件: {}.{}", packageName, className);
+        return status;
+    }
+
+    /**
+     * 与已有文件比较，长度不同时直接判定为已修改，无需计算哈希
+     */
+    private GeneratedFileStatus compareWithExisting(Path filePath, byte[] newContentBytes) throws IOException {
+        if (!Files.exists(filePath)) {
+            return GeneratedFileStatus.ADDED;
+        }
+        if (Files.size(filePath) != newContentBytes.length) {
+            return GeneratedFileStatus.CHANGED;
+        }
+        byte[] existingHash = calculateHash(Files.readAllBytes(filePath));
+        byte[] newHash = calculateHash(newContentBytes);
+        return Arrays.equals(newHash, existingHash) ? GeneratedFileStatus.UNCHANGED : GeneratedFileStatus.CHANGED;
     }
 
     private byte[] calculateHash(byte[] content) {
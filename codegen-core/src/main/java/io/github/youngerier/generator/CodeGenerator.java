@@ -30,4 +30,13 @@ public interface CodeGenerator {
      * @return 类名
      */
     String getClassName(ClassMetadata classMetadata);
+
+    /**
+     * 获取生成文件所属的分层
+     *
+     * @return 分层，默认为服务层
+     */
+    default GeneratedLayer getLayer() {
+        return GeneratedLayer.SERVICE;
+    }
 }
@@ -0,0 +1,17 @@
+package io.github.youngerier.generator;
+
+/**
+ * 对象转换器的生成方式
+ */
+public enum ConvertorStyle {
+
+    /**
+     * 生成 MapStruct 接口，由注解处理器生成实现
+     */
+    MAPSTRUCT,
+
+    /**
+     * 直接生成逐字段 getter/setter 复制的实现类，不依赖 MapStruct 注解处理器
+     */
+    DIRECT
+}
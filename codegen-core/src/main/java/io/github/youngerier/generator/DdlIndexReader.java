@@ -0,0 +1,292 @@
+package io.github.youngerier.generator;
+
+import io.github.youngerier.generator.model.IndexInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 从 DDL 文件中读取索引定义，支持 CREATE TABLE 中的 PRIMARY KEY / UNIQUE KEY / KEY / INDEX、
+ * 列定义上的 PRIMARY KEY / UNIQUE 以及独立的 CREATE [UNIQUE] INDEX ... ON ... 语句。
+ *
+ * <p>只做轻量的正则解析，不支持表达式索引与函数索引。注释、括号与逗号的识别会跳过字符串字面量与带引号的标识符。
+ */
+@Slf4j
+public class DdlIndexReader {
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "CREATE\\s+TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?([`\"\\w.]+)\\s*\\(", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern INLINE_INDEX = Pattern.compile(
+            "^\\s*(?:CONSTRAINT\\s+[`\"\\w]+\\s+)?(PRIMARY\\s+KEY|UNIQUE(?:\\s+(?:KEY|INDEX))?|KEY|INDEX)\\b\\s*([`\"\\w]*)\\s*(?:USING\\s+\\w+\\s*)?\\(",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 列定义：列名后跟类型，不以表级约束关键字开头
+     */
+    private static final Pattern COLUMN_DEFINITION = Pattern.compile(
+            "^\\s*(?!(?:CONSTRAINT|PRIMARY|UNIQUE|KEY|INDEX|FOREIGN|CHECK|FULLTEXT|SPATIAL|EXCLUDE|LIKE)\\b)([`\"]?[\\w$]+[`\"]?)\\s+\\w",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern COLUMN_CONSTRAINT = Pattern.compile(
+            "\\b(PRIMARY\\s+KEY|UNIQUE)\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE\\s+(UNIQUE\\s+)?INDEX\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?([`\"\\w]+)\\s+ON\\s+([`\"\\w.]+)\\s*(?:USING\\s+\\w+\\s*)?\\(([^;]+?)\\)\\s*(?:;|$)",
+            Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+
+    /**
+     * 读取 DDL 文件中的索引定义
+     *
+     * @param ddlFile DDL 文件
+     * @return 表名（小写）到索引列表的映射，索引列已转换为字段名
+     * @throws IOException 如果读取文件失败
+     */
+    public Map<String, List<IndexInfo>> read(Path ddlFile) throws IOException {
+        String ddl = stripComments(new String(Files.readAllBytes(ddlFile), StandardCharsets.UTF_8));
+        Map<String, List<IndexInfo>> result = new HashMap<>();
+
+        Matcher tableMatcher = CREATE_TABLE.matcher(ddl);
+        while (tableMatcher.find()) {
+            String tableName = normalizeTableName(tableMatcher.group(1));
+            int bodyStart = tableMatcher.end();
+            int bodyEnd = findClosingParenthesis(ddl, bodyStart);
+            if (bodyEnd < 0) {
+                log.warn("DDL 中表 {} 的定义不完整，跳过", tableName);
+                continue;
+            }
+            for (String definition : splitTopLevel(ddl.substring(bodyStart, bodyEnd))) {
+                addInlineIndex(result, tableName, definition);
+            }
+        }
+
+        Matcher indexMatcher = CREATE_INDEX.matcher(ddl);
+        while (indexMatcher.find()) {
+            addIndex(result, normalizeTableName(indexMatcher.group(3)), unquote(indexMatcher.group(2)),
+                    indexMatcher.group(4), indexMatcher.group(1) != null, false);
+        }
+        log.debug("从 DDL 文件 {} 中读取到 {} 张表的索引定义", ddlFile, result.size());
+        return result;
+    }
+
+    private void addInlineIndex(Map<String, List<IndexInfo>> result, String tableName, String definition) {
+        Matcher indexMatcher = INLINE_INDEX.matcher(definition);
+        if (indexMatcher.find()) {
+            int columnsEnd = findClosingParenthesis(definition, indexMatcher.end());
+            if (columnsEnd < 0) {
+                return;
+            }
+            String type = indexMatcher.group(1).toUpperCase(Locale.ROOT);
+            boolean primary = type.startsWith("PRIMARY");
+            boolean unique = primary || type.startsWith("UNIQUE");
+            String name = primary ? "PRIMARY" : unquote(indexMatcher.group(2));
+            addIndex(result, tableName, name, definition.substring(indexMatcher.end(), columnsEnd), unique, primary);
+            return;
+        }
+        Matcher columnMatcher = COLUMN_DEFINITION.matcher(definition);
+        if (!columnMatcher.find()) {
+            return;
+        }
+        // 列级约束，例如 username varchar(64) NOT NULL UNIQUE，忽略 COMMENT、DEFAULT 中的字符串
+        Matcher constraintMatcher = COLUMN_CONSTRAINT.matcher(blankQuoted(definition.substring(columnMatcher.end(1))));
+        if (constraintMatcher.find()) {
+            String column = columnMatcher.group(1);
+            boolean primary = constraintMatcher.group(1).toUpperCase(Locale.ROOT).startsWith("PRIMARY");
+            // MySQL 中列级唯一约束的索引名与列名相同
+            addIndex(result, tableName, primary ? "PRIMARY" : unquote(column), column, true, primary);
+        }
+    }
+
+    private void addIndex(Map<String, List<IndexInfo>> result, String tableName, String name,
+                          String columns, boolean unique, boolean primary) {
+        List<String> fields = new ArrayList<>();
+        for (String column : splitTopLevel(columns)) {
+            // 去掉前缀长度与排序方向，例如 `name`(20) DESC
+            String columnName = unquote(column.trim().replaceAll("\\(\\d+\\)", "").split("\\s+")[0]);
+            if (!columnName.isEmpty()) {
+                fields.add(toFieldName(columnName));
+            }
+        }
+        if (!fields.isEmpty()) {
+            result.computeIfAbsent(tableName, key -> new ArrayList<>())
+                    .add(new IndexInfo(name, fields, unique, primary));
+        }
+    }
+
+    /**
+     * 将列名转换为字段名，与 MyBatis-Flex 默认的下划线转驼峰规则一致
+     *
+     * @param columnName 列名或字段名
+     * @return 字段名
+     */
+    public static String toFieldName(String columnName) {
+        if (columnName.indexOf('_') < 0) {
+            return columnName;
+        }
+        StringBuilder sb = new StringBuilder();
+        boolean upperNext = false;
+        for (char c : columnName.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '_') {
+                upperNext = sb.length() > 0;
+            } else {
+                sb.append(upperNext ? Character.toUpperCase(c) : c);
+                upperNext = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 规范化表名：去掉引号与 schema 前缀并转为小写
+     */
+    public static String normalizeTableName(String tableName) {
+        String name = unquote(tableName);
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            name = unquote(name.substring(dot + 1));
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String unquote(String value) {
+        return value == null ? "" : value.replace("`", "").replace("\"", "").trim();
+    }
+
+    /**
+     * 去掉 -- 与 /* *&#47; 注释，字符串字面量与带引号的标识符中的内容保持不变
+     */
+    static String stripComments(String ddl) {
+        StringBuilder result = new StringBuilder(ddl.length());
+        int i = 0;
+        while (i < ddl.length()) {
+            char c = ddl.charAt(i);
+            if (isQuote(c)) {
+                int end = skipQuoted(ddl, i);
+                result.append(ddl, i, end);
+                i = end;
+            } else if (ddl.startsWith("--", i)) {
+                int end = ddl.indexOf('\n', i);
+                result.append(' ');
+                i = end < 0 ? ddl.length() : end;
+            } else if (ddl.startsWith("/*", i)) {
+                int end = ddl.indexOf("*/", i + 2);
+                result.append(' ');
+                i = end < 0 ? ddl.length() : end + 2;
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 将单引号字符串字面量的内容替换为空格，用于在列定义中查找关键字
+     */
+    private static String blankQuoted(String text) {
+        StringBuilder result = new StringBuilder(text);
+        int i = 0;
+        while (i < text.length()) {
+            if (text.charAt(i) == '\'') {
+                int end = skipQuoted(text, i);
+                for (int j = i; j < end; j++) {
+                    result.setCharAt(j, ' ');
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '\'' || c == '"' || c == '`';
+    }
+
+    /**
+     * 跳过从 start 开始的字符串字面量或带引号的标识符，支持重复引号与反斜杠转义
+     *
+     * @return 结束引号之后的位置，没有结束引号时返回文本长度
+     */
+    private static int skipQuoted(String text, int start) {
+        char quote = text.charAt(start);
+        int i = start + 1;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '\\' && quote == '\'') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < text.length() && text.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return text.length();
+    }
+
+    private static int findClosingParenthesis(String text, int start) {
+        int depth = 1;
+        int i = start;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (isQuote(c)) {
+                i = skipQuoted(text, i);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * 按顶层逗号拆分，忽略括号内的逗号
+     */
+    private static List<String> splitTopLevel(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (isQuote(c)) {
+                i = skipQuoted(text, i);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(text.substring(start, i));
+                start = i + 1;
+            }
+            i++;
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+}
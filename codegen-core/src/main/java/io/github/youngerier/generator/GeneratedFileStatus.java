@@ -0,0 +1,27 @@
+package io.github.youngerier.generator;
+
+/**
+ * 生成文件相对于磁盘上已有文件的状态
+ */
+public enum GeneratedFileStatus {
+
+    /**
+     * 文件不存在，将新增
+     */
+    ADDED,
+
+    /**
+     * 文件已存在但内容不同，将被覆盖
+     */
+    CHANGED,
+
+    /**
+     * 文件内容未改变
+     */
+    UNCHANGED,
+
+    /**
+     * 已存在于生成目录中，但本次不再生成的文件
+     */
+    ORPHANED
+}
@@ -0,0 +1,33 @@
+package io.github.youngerier.generator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 生成代码所属的分层，用于按层拆分输出目录，
+ * 使下游模块只编译自己需要的部分。
+ */
+@Getter
+@AllArgsConstructor
+public enum GeneratedLayer {
+
+    /**
+     * API 模型层：DTO、Request、Query、Response
+     */
+    MODEL("model"),
+
+    /**
+     * 服务层：Service、ServiceImpl、Repository、Mapper、Convertor
+     */
+    SERVICE("service"),
+
+    /**
+     * Web 层：Controller
+     */
+    WEB("web");
+
+    /**
+     * 按层拆分输出时使用的子目录名
+     */
+    private final String directory;
+}
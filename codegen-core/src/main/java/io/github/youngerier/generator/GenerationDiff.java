@@ -0,0 +1,51 @@
+package io.github.youngerier.generator;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 试运行（dry-run）时收集的生成文件变化，按状态分组
+ */
+public class GenerationDiff {
+
+    private final Map<GeneratedFileStatus, List<Path>> files = new EnumMap<>(GeneratedFileStatus.class);
+
+    void record(GeneratedFileStatus status, Path file) {
+        files.computeIfAbsent(status, key -> new ArrayList<>()).add(file);
+    }
+
+    /**
+     * 获取指定状态的文件列表
+     *
+     * @param status 文件状态
+     * @return 文件列表
+     */
+    public List<Path> getFiles(GeneratedFileStatus status) {
+        return Collections.unmodifiableList(files.getOrDefault(status, Collections.emptyList()));
+    }
+
+    /**
+     * 获取指定状态的文件数量
+     *
+     * @param status 文件状态
+     * @return 文件数量
+     */
+    public int count(GeneratedFileStatus status) {
+        return files.getOrDefault(status, Collections.emptyList()).size();
+    }
+
+    /**
+     * 是否存在新增、修改或孤立的文件
+     *
+     * @return 存在变化时返回 true
+     */
+    public boolean hasChanges() {
+        return count(GeneratedFileStatus.ADDED) > 0
+                || count(GeneratedFileStatus.CHANGED) > 0
+                || count(GeneratedFileStatus.ORPHANED) > 0;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.youngerier.generator;
+
+import lombok.Getter;
+
+/**
+ * 代码生成统计信息，由 {@link GeneratorEngine} 在一次执行过程中累计。
+ */
+@Getter
+public class GenerationStatistics {
+
+    /**
+     * 解析的 POJO 类数量
+     */
+    private int analyzedClasses;
+
+    /**
+     * 源码解析缓存命中次数
+     */
+    private int parseCacheHits;
+
+    /**
+     * 源码解析缓存未命中（实际解析源文件）次数
+     */
+    private int parseCacheMisses;
+
+    /**
+     * 写入的文件数量
+     */
+    private int writtenFiles;
+
+    /**
+     * 内容未改变而跳过写入的文件数量
+     */
+    private int skippedFiles;
+
+    /**
+     * 写入的总字节数
+     */
+    private long bytesWritten;
+
+    /**
+     * 源码解析耗时（毫秒）
+     */
+    private long analyzeTimeMillis;
+
+    /**
+     * 代码生成与写入耗时（毫秒）
+     */
+    private long generateTimeMillis;
+
+    void recordAnalyzed(long elapsedMillis) {
+        analyzedClasses++;
+        analyzeTimeMillis += elapsedMillis;
+    }
+
+    void recordGenerated(long elapsedMillis) {
+        generateTimeMillis += elapsedMillis;
+    }
+
+    void recordParseCacheHit() {
+        parseCacheHits++;
+    }
+
+    void recordParseCacheMiss() {
+        parseCacheMisses++;
+    }
+
+    void recordWritten(long bytes) {
+        writtenFiles++;
+        bytesWritten += bytes;
+    }
+
+    void recordSkipped() {
+        skippedFiles++;
+    }
+}
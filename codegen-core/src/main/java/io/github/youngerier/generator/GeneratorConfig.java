@@ -3,12 +3,24 @@ package io.github.youngerier.generator;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.File;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Builder
 public class GeneratorConfig {
 
+    /**
+     * Standard Maven source directory path.
+     */
+    private static final String SRC_MAIN_JAVA = "src" + File.separator + "main" + File.separator + "java";
+
+    /**
+     * Standard Maven test source directory path.
+     */
+    private static final String SRC_TEST_JAVA = "src" + File.separator + "test" + File.separator + "java";
+
     /**
      * 当前模块的名称 (例如 "example")
      */
@@ -24,4 +36,78 @@ public class GeneratorConfig {
      */
     private final List<Class<?>> pojoClasses;
 
+    /**
+     * 是否按分层拆分输出目录，开启后各层代码分别输出到 outputBaseDir/{layer}/src/main/java
+     */
+    private final boolean splitByLayer;
+
+    /**
+     * 需要生成的分层，为空时生成全部分层
+     */
+    private final Set<GeneratedLayer> layers;
+
+    /**
+     * 可选的 DDL 文件路径，用于读取表上的索引定义
+     */
+    private final String ddlFile;
+
+    /**
+     * 是否为试运行，开启后只与已有文件比较，不写入任何文件
+     */
+    private final boolean dryRun;
+
+    /**
+     * 是否生成异步接口：额外生成返回 CompletableFuture 的 AsyncService，Controller 方法改为异步执行
+     */
+    private final boolean async;
+
+    /**
+     * 转换器生成方式，为空时生成 MapStruct 接口
+     */
+    private final ConvertorStyle convertorStyle;
+
+    /**
+     * 是否为每个实体生成 JMH 基准测试，覆盖转换器与查询条件构建，输出到测试源码目录
+     */
+    private final boolean benchmark;
+
+    /**
+     * 判断指定分层是否需要生成
+     *
+     * @param layer 分层
+     * @return 是否生成
+     */
+    public boolean isLayerEnabled(GeneratedLayer layer) {
+        return layers == null || layers.isEmpty() || layers.contains(layer);
+    }
+
+    /**
+     * 获取指定分层的输出根目录
+     *
+     * @param layer 分层
+     * @return 未拆分时为 outputBaseDir，拆分时为 outputBaseDir/{layer}
+     */
+    public String getLayerOutputDir(GeneratedLayer layer) {
+        return splitByLayer ? outputBaseDir + File.separator + layer.getDirectory() : outputBaseDir;
+    }
+
+    /**
+     * 获取指定分层的源码根目录
+     *
+     * @param layer 分层
+     * @return 源码根目录 (例如 "target/generated-sources/model/src/main/java")
+     */
+    public String getSourceRoot(GeneratedLayer layer) {
+        return getLayerOutputDir(layer) + File.separator + SRC_MAIN_JAVA;
+    }
+
+    /**
+     * 获取基准测试的源码根目录，位于服务层输出目录下
+     *
+     * @return 测试源码根目录 (例如 "target/generated-sources/src/test/java")
+     */
+    public String getBenchmarkSourceRoot() {
+        return getLayerOutputDir(GeneratedLayer.SERVICE) + File.separator + SRC_TEST_JAVA;
+    }
+
 }
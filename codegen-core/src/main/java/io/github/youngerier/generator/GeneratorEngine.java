@@ -1,9 +1,16 @@
 package io.github.youngerier.generator;
 
+import io.github.youngerier.generator.generators.AsyncServiceGenerator;
+import io.github.youngerier.generator.generators.AsyncServiceImplGenerator;
+import io.github.youngerier.generator.generators.BatchLoaderGenerator;
+import io.github.youngerier.generator.generators.BenchmarkGenerator;
+import io.github.youngerier.generator.generators.CachingServiceGenerator;
 import io.github.youngerier.generator.generators.ControllerGenerator;
 import io.github.youngerier.generator.generators.DtoGenerator;
+import io.github.youngerier.generator.generators.ListItemGenerator;
 import io.github.youngerier.generator.generators.MapperGenerator;
 import io.github.youngerier.generator.generators.MapstructGenerator;
+import io.github.youngerier.generator.generators.DirectConvertorGenerator;
 import io.github.youngerier.generator.generators.QueryGenerator;
 import io.github.youngerier.generator.generators.RepositoryGenerator;
 import io.github.youngerier.generator.generators.RequestGenerator;
@@ -11,14 +18,26 @@ import io.github.youngerier.generator.generators.ResponseGenerator;
 import io.github.youngerier.generator.generators.ServiceGenerator;
 import io.github.youngerier.generator.generators.ServiceImplGenerator;
 import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.IndexInfo;
 import io.github.youngerier.generator.model.PackageStructure;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 /**
  * 代码生成引擎，负责协调整个代码生成过程。
@@ -26,64 +45,194 @@ import java.util.List;
 @Slf4j
 public class GeneratorEngine {
 
-    /**
-     * Standard Maven source directory path.
-     */
-    private static final String SRC_MAIN_JAVA = "src" + File.separator + "main" + File.separator + "java";
-
     private final GeneratorConfig config;
 
+    private final GenerationStatistics statistics = new GenerationStatistics();
+
+    private final SourceCodeAnalyzer analyzer = new SourceCodeAnalyzer(statistics);
+
+    private final GenerationDiff diff = new GenerationDiff();
+
     public GeneratorEngine(GeneratorConfig config) {
         this.config = config;
     }
 
+    /**
+     * 获取本次执行的统计信息
+     *
+     * @return 统计信息
+     */
+    public GenerationStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * 获取试运行收集的文件变化，仅在 {@link GeneratorConfig#isDryRun()} 开启时有内容
+     *
+     * @return 文件变化
+     */
+    public GenerationDiff getDiff() {
+        return diff;
+    }
+
     /**
      * Execute code generation.
      */
     public void execute() {
+        Map<String, List<IndexInfo>> ddlIndexes = loadDdlIndexes();
         for (Class<?> pojoClass : config.getPojoClasses()) {
             try {
-                generateSinglePojo(pojoClass, config.getModuleName());
+                generateSinglePojo(pojoClass, config.getModuleName(), ddlIndexes);
             } catch (IOException | NoSuchAlgorithmException e) {
                 log.error("Error generating code for {}: {}", pojoClass.getName(), e.getMessage(), e);
             }
         }
+        if (config.isDryRun()) {
+            collectOrphanedFiles();
+            log.info("试运行完成，未写入任何文件");
+            return;
+        }
         log.info("所有代码生成任务完成!");
     }
 
-    private void generateSinglePojo(Class<?> pojoClass, String moduleName) throws IOException, NoSuchAlgorithmException {
+    /**
+     * 查找生成目录中本次不再生成的 Java 文件。
+     * 只检查本次生成涉及的包目录，避免把输出目录中手写的代码误判为孤立文件。
+     */
+    private void collectOrphanedFiles() {
+        Set<Path> generatedFiles = new HashSet<>();
+        for (GeneratedFileStatus status : List.of(GeneratedFileStatus.ADDED, GeneratedFileStatus.CHANGED, GeneratedFileStatus.UNCHANGED)) {
+            generatedFiles.addAll(diff.getFiles(status));
+        }
+        Set<Path> packageDirs = new TreeSet<>();
+        for (Path file : generatedFiles) {
+            packageDirs.add(file.getParent());
+        }
+        for (Path packageDir : packageDirs) {
+            if (!Files.isDirectory(packageDir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(packageDir)) {
+                files.filter(file -> file.getFileName().toString().endsWith(".java"))
+                        .filter(file -> !generatedFiles.contains(file))
+                        .sorted()
+                        .forEach(file -> diff.record(GeneratedFileStatus.ORPHANED, file));
+            } catch (IOException e) {
+                log.warn("无法读取目录 {}: {}", packageDir, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 读取配置的 DDL 文件中的索引定义，未配置或读取失败时返回空映射
+     */
+    private Map<String, List<IndexInfo>> loadDdlIndexes() {
+        if (config.getDdlFile() == null || config.getDdlFile().isBlank()) {
+            return Collections.emptyMap();
+        }
+        Path ddlPath = Paths.get(config.getDdlFile());
+        try {
+            return new DdlIndexReader().read(ddlPath);
+        } catch (IOException e) {
+            log.warn("读取 DDL 文件失败，忽略其中的索引定义: {}", ddlPath.toAbsolutePath(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 检查查询字段与索引的匹配情况，对无法使用任何索引的查询字段给出警告。
+     * 没有声明主键以外的索引时不做检查，避免对未提供索引信息的实体产生大量警告。
+     */
+    private void checkQueryIndexes(ClassMetadata classMetadata) {
+        if (!classMetadata.hasSecondaryIndexes()) {
+            return;
+        }
+        for (IndexInfo index : classMetadata.getIndexes()) {
+            for (String fieldName : index.getFields()) {
+                boolean exists = classMetadata.getFields().stream().anyMatch(field -> field.getName().equals(fieldName));
+                if (!exists) {
+                    log.warn("{} 的索引 {} 包含未知字段: {}", classMetadata.getClassName(), index.getName(), fieldName);
+                }
+            }
+        }
+        for (ClassMetadata.FieldInfo field : classMetadata.getQueryFieldsInIndexOrder()) {
+            if (!classMetadata.isIndexed(field.getName())) {
+                log.warn("{} 的查询字段 {} 不在任何索引中，按该字段查询无法使用索引，可通过 @GenQuery 声明空操作符取消该查询条件",
+                        classMetadata.getClassName(), field.getName());
+            }
+        }
+    }
+
+    private void generateSinglePojo(Class<?> pojoClass, String moduleName, Map<String, List<IndexInfo>> ddlIndexes)
+            throws IOException, NoSuchAlgorithmException {
         // 1. Parse the POJO class
-        SourceCodeAnalyzer analyzer = new SourceCodeAnalyzer();
+        long analyzeStart = System.currentTimeMillis();
         ClassMetadata classMetadata = analyzer.parse(pojoClass, moduleName);
+        statistics.recordAnalyzed(System.currentTimeMillis() - analyzeStart);
         log.info("Successfully parsed POJO: {}", classMetadata.getClassName());
+        classMetadata.getIndexes().addAll(ddlIndexes.getOrDefault(classMetadata.getTableName(), Collections.emptyList()));
+        checkQueryIndexes(classMetadata);
 
         // 2. 创建包配置
         String basePackage = classMetadata.getBasePackageName();
         PackageStructure packageStructure = new PackageStructure(basePackage, classMetadata.getClassName());
 
-        // 3. 创建文件生成器
-        CodeFileWriter codeFileWriter = new CodeFileWriter(config.getOutputBaseDir());
-
-        // 4. 定义需要生成的代码类型
-        List<CodeGenerator> generators = Arrays.asList(
+        // 3. 定义需要生成的代码类型
+        List<CodeGenerator> generators = new ArrayList<>(Arrays.asList(
                 new DtoGenerator(packageStructure),
                 new ServiceGenerator(packageStructure),
                 new ServiceImplGenerator(packageStructure),
+                new BatchLoaderGenerator(packageStructure),
                 new MapperGenerator(packageStructure),
-                new ControllerGenerator(packageStructure),
+                new ControllerGenerator(packageStructure, config.isAsync()),
                 new RequestGenerator(packageStructure),
                 new QueryGenerator(packageStructure),
                 new ResponseGenerator(packageStructure),
-                new MapstructGenerator(packageStructure),
+                config.getConvertorStyle() == ConvertorStyle.DIRECT
+                        ? new DirectConvertorGenerator(packageStructure)
+                        : new MapstructGenerator(packageStructure),
                 new RepositoryGenerator(packageStructure)
-        );
+        ));
+        if (config.isAsync()) {
+            generators.add(new AsyncServiceGenerator(packageStructure));
+            generators.add(new AsyncServiceImplGenerator(packageStructure));
+        }
+        if (classMetadata.hasListView()) {
+            generators.add(new ListItemGenerator(packageStructure));
+        }
+        if (classMetadata.isCacheEnabled()) {
+            generators.add(new CachingServiceGenerator(packageStructure));
+        }
 
-        // 5. 生成所有代码
+        // 4. 按分层写入所有代码
+        long generateStart = System.currentTimeMillis();
+        Map<GeneratedLayer, CodeFileWriter> writers = new EnumMap<>(GeneratedLayer.class);
         for (CodeGenerator generator : generators) {
+            GeneratedLayer layer = generator.getLayer();
+            if (!config.isLayerEnabled(layer)) {
+                log.debug("跳过未启用分层 {} 的生成器: {}", layer, generator.getClass().getSimpleName());
+                continue;
+            }
+            CodeFileWriter codeFileWriter = writers.computeIfAbsent(layer,
+                    key -> new CodeFileWriter(config.getLayerOutputDir(key), statistics, config.isDryRun() ? diff : null));
             codeFileWriter.generateFile(generator, classMetadata);
         }
+        if (config.isBenchmark() && config.isLayerEnabled(GeneratedLayer.SERVICE)) {
+            CodeFileWriter benchmarkWriter = new CodeFileWriter(Paths.get(config.getBenchmarkSourceRoot()),
+                    statistics, config.isDryRun() ? diff : null);
+            benchmarkWriter.generateFile(new BenchmarkGenerator(packageStructure), classMetadata);
+        }
+        statistics.recordGenerated(System.currentTimeMillis() - generateStart);
 
+        if (config.isDryRun()) {
+            return;
+        }
         log.info("为 {} 生成的代码已完成!", classMetadata.getClassName());
-        log.info("生成的文件位于: {}", new File(config.getOutputBaseDir(), SRC_MAIN_JAVA).getAbsolutePath());
+        for (GeneratedLayer layer : writers.keySet()) {
+            log.info("生成的 {} 层文件位于: {}", layer, new File(config.getSourceRoot(layer)).getAbsolutePath());
+        }
+        if (config.isBenchmark() && config.isLayerEnabled(GeneratedLayer.SERVICE)) {
+            log.info("生成的基准测试位于: {}", new File(config.getBenchmarkSourceRoot()).getAbsolutePath());
+        }
     }
 }
\ No newline at end of file
@@ -13,20 +13,35 @@ import com.github.javaparser.symbolsolver.JavaSymbolSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.mybatisflex.annotation.Column;
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.annotation.Table;
 import com.squareup.javapoet.ClassName;
+import io.github.youngerier.generator.annotation.GenIndex;
+import io.github.youngerier.generator.annotation.GenModel;
+import io.github.youngerier.generator.annotation.GenQuery;
+import io.github.youngerier.generator.annotation.QueryOperator;
 import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.IndexInfo;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -38,6 +53,7 @@ import java.util.Set;
  *   <li>智能源文件发现：支持多种构建工具路径映射（Maven、Gradle、IntelliJ IDEA）</li>
  *   <li>高效字段提取：使用 Visitor 模式优化 AST 遍历性能</li>
  *   <li>符号解析缓存：避免重复初始化，提升解析性能</li>
+ *   <li>源码解析缓存：在同一分析器内按文件路径与修改时间缓存语法树，公共父类只解析一次</li>
  *   <li>多模块支持：支持复杂项目结构的源文件定位</li>
  * </ul>
  * 
@@ -56,11 +72,25 @@ public class SourceCodeAnalyzer {
     private static final String SRC_MAIN_JAVA = "src" + File.separator + "main" + File.separator + "java";
     private static final String SRC_TEST_JAVA = "src" + File.separator + "test" + File.separator + "java";
     private static final int MAX_SEARCH_DEPTH = 6;
+    private static final Set<String> DEFAULT_RANGE_FIELDS = Set.of("gmtCreate", "gmtModified");
 
     // 缓存符号求解器与已注册的源根，避免重复初始化与提升解析性能
     private static CombinedTypeSolver cachedSolver;
     private static final Set<String> registeredRoots = new HashSet<>();
 
+    private final GenerationStatistics statistics;
+
+    // 缓存本次生成已解析的语法树，随分析器（一次 GeneratorEngine 运行）一起释放，源文件修改时间变化时失效
+    private final Map<String, ParsedSource> parsedSources = new HashMap<>();
+
+    public SourceCodeAnalyzer() {
+        this(new GenerationStatistics());
+    }
+
+    public SourceCodeAnalyzer(GenerationStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     /**
      * 解析 POJO 类并提取元数据信息。
      *
@@ -82,7 +112,7 @@ public class SourceCodeAnalyzer {
             configureSymbolSolver(sourceFile);
 
             // 解析源文件
-            CompilationUnit compilationUnit = StaticJavaParser.parse(sourceFile);
+            CompilationUnit compilationUnit = parseSource(sourceFile);
             String simpleClassName = clazz.getSimpleName();
 
             ClassMetadata classMetadata = new ClassMetadata();
@@ -97,6 +127,11 @@ public class SourceCodeAnalyzer {
                 addDirectParentFields(cls, moduleName, classMetadata);
             });
 
+            // 读取生成选项、表名、索引与查询操作符
+            readGenModelOptions(clazz, classMetadata);
+            readIndexMetadata(clazz, classMetadata);
+            readQueryOperators(clazz, classMetadata);
+
             return classMetadata;
         } catch (Exception e) {
             throw new IOException("Failed to parse class: " + clazz.getName(), e);
@@ -261,7 +296,7 @@ public class SourceCodeAnalyzer {
             try {
                 Class<?> parentClass = Class.forName(parentQualifiedName);
                 File parentSourceFile = findSourceFile(parentClass, moduleName);
-                CompilationUnit parentCu = StaticJavaParser.parse(parentSourceFile);
+                CompilationUnit parentCu = parseSource(parentSourceFile);
                 parentCu.getClassByName(parentClass.getSimpleName())
                     .ifPresent(parentCls -> extractFields(parentCls, classMetadata));
             } catch (Exception e) {
@@ -271,6 +306,123 @@ public class SourceCodeAnalyzer {
         });
     }
 
+    /**
+     * 解析源文件，文件未修改时复用缓存的语法树。
+     *
+     * @param sourceFile 源文件
+     * @return 语法树
+     * @throws IOException 如果读取源文件失败
+     */
+    private CompilationUnit parseSource(File sourceFile) throws IOException {
+        String key = sourceFile.getAbsolutePath();
+        long lastModified = sourceFile.lastModified();
+        ParsedSource cached = parsedSources.get(key);
+        if (cached != null && cached.lastModified() == lastModified) {
+            statistics.recordParseCacheHit();
+            log.debug("Reuse parsed source: {}", key);
+            return cached.compilationUnit();
+        }
+        statistics.recordParseCacheMiss();
+        CompilationUnit compilationUnit = StaticJavaParser.parse(sourceFile);
+        parsedSources.put(key, new ParsedSource(lastModified, compilationUnit));
+        return compilationUnit;
+    }
+
+    /**
+     * 已解析的源文件。
+     */
+    private record ParsedSource(long lastModified, CompilationUnit compilationUnit) {
+    }
+
+    /**
+     * 读取 {@link GenModel} 注解上的生成选项。
+     */
+    private void readGenModelOptions(Class<?> clazz, ClassMetadata classMetadata) {
+        GenModel genModel = clazz.getAnnotation(GenModel.class);
+        if (genModel == null) {
+            return;
+        }
+        classMetadata.setCacheEnabled(genModel.cache());
+        classMetadata.setCacheTtlSeconds(genModel.cacheTtlSeconds());
+        classMetadata.setCacheMaxSize(genModel.cacheMaxSize());
+        classMetadata.setStreamExport(genModel.streamExport());
+        for (String listField : genModel.listFields()) {
+            boolean exists = classMetadata.getFields().stream().anyMatch(field -> field.getName().equals(listField));
+            if (exists) {
+                classMetadata.getListFields().add(listField);
+            } else {
+                log.warn("{} 的列表视图字段不存在，已忽略: {}", clazz.getSimpleName(), listField);
+            }
+        }
+    }
+
+    /**
+     * 读取表名、索引与乐观锁版本字段：MyBatis-Flex 的 {@link Table}、{@link Id} 与 {@link Column} 注解，以及 {@link GenIndex} 注解。
+     */
+    private void readIndexMetadata(Class<?> clazz, ClassMetadata classMetadata) {
+        Table table = clazz.getAnnotation(Table.class);
+        classMetadata.setTableName(table != null && !table.value().isEmpty()
+                ? DdlIndexReader.normalizeTableName(table.value())
+                : toSnakeCase(clazz.getSimpleName()));
+
+        for (ClassMetadata.FieldInfo fieldInfo : classMetadata.getFields()) {
+            Field field = findField(clazz, fieldInfo.getName());
+            if (field != null && field.isAnnotationPresent(Id.class)) {
+                classMetadata.getIndexes().add(new IndexInfo("PRIMARY", new ArrayList<>(List.of(fieldInfo.getName())), true, true));
+            }
+            Column column = field != null ? field.getAnnotation(Column.class) : null;
+            if (column != null && column.version()) {
+                classMetadata.setVersionField(fieldInfo.getName());
+            }
+        }
+
+        for (GenIndex genIndex : clazz.getAnnotationsByType(GenIndex.class)) {
+            List<String> fields = new ArrayList<>();
+            for (String column : genIndex.columns()) {
+                fields.add(DdlIndexReader.toFieldName(column.trim()));
+            }
+            classMetadata.getIndexes().add(new IndexInfo(genIndex.name(), fields, genIndex.unique(), false));
+        }
+    }
+
+    /**
+     * 读取字段的查询操作符，未标注 {@link GenQuery} 时使用默认值：
+     * gmtCreate/gmtModified 支持等值与范围查询（与之前生成的 Query 对象保持一致），其余字段只支持等值查询。
+     */
+    private void readQueryOperators(Class<?> clazz, ClassMetadata classMetadata) {
+        for (ClassMetadata.FieldInfo fieldInfo : classMetadata.getFields()) {
+            Field field = findField(clazz, fieldInfo.getName());
+            GenQuery genQuery = field != null ? field.getAnnotation(GenQuery.class) : null;
+            if (genQuery != null) {
+                fieldInfo.setQueryOperators(new ArrayList<>(new LinkedHashSet<>(Arrays.asList(genQuery.value()))));
+                fieldInfo.getQueryOperators().sort(Comparator.naturalOrder());
+            } else if (DEFAULT_RANGE_FIELDS.contains(fieldInfo.getName())) {
+                fieldInfo.setQueryOperators(new ArrayList<>(List.of(QueryOperator.EQ, QueryOperator.RANGE)));
+            }
+        }
+    }
+
+    /**
+     * 在类及其父类中查找字段。
+     */
+    private static Field findField(Class<?> clazz, String name) {
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                // 继续在父类中查找
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 将类名转换为下划线命名，作为未声明 {@link Table} 时的默认表名。
+     */
+    private static String toSnakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
     /**
      * 检查是否为 Object 类。
      */
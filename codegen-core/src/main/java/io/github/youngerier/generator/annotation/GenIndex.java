@@ -0,0 +1,32 @@
+package io.github.youngerier.generator.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明实体对应表上的索引，生成查询条件时按索引列顺序排列谓词，
+ * 并对无法使用索引的查询字段给出警告。
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(GenIndexes.class)
+public @interface GenIndex {
+
+    /**
+     * 索引名称
+     */
+    String name() default "";
+
+    /**
+     * 索引列，按索引定义顺序填写，支持字段名或列名（下划线命名）
+     */
+    String[] columns();
+
+    /**
+     * 是否唯一索引
+     */
+    boolean unique() default false;
+}
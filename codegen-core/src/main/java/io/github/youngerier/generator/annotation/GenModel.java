@@ -11,4 +11,30 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface GenModel {
+
+    /**
+     * Whether to generate a caching decorator ({Entity}CachingService) in front of the generated service.
+     */
+    boolean cache() default false;
+
+    /**
+     * Time to live of cached entries, in seconds.
+     */
+    long cacheTtlSeconds() default 300;
+
+    /**
+     * Maximum number of entries held by each local cache.
+     */
+    int cacheMaxSize() default 10000;
+
+    /**
+     * Fields of the list view ({Entity}ListItem). When not empty, projection queries selecting only
+     * these columns are generated for list and page views.
+     */
+    String[] listFields() default {};
+
+    /**
+     * Whether to generate a streaming export endpoint (NDJSON or xlsx) backed by a database cursor.
+     */
+    boolean streamExport() default false;
 }
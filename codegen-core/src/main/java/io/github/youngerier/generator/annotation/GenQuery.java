@@ -0,0 +1,21 @@
+package io.github.youngerier.generator.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明字段在生成的 Query 对象与查询条件中支持的操作符。
+ * 未标注时默认只生成等值条件，gmtCreate/gmtModified 额外生成范围条件。
+ * 标注为空数组时该字段不参与查询。
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GenQuery {
+
+    /**
+     * 支持的查询操作符
+     */
+    QueryOperator[] value() default {QueryOperator.EQ};
+}
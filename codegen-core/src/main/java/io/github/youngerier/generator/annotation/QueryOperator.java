@@ -0,0 +1,34 @@
+package io.github.youngerier.generator.annotation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 生成查询条件时支持的操作符，声明顺序即同一字段内谓词的生成顺序
+ */
+@Getter
+@AllArgsConstructor
+public enum QueryOperator {
+
+    /**
+     * 等值查询：column = ?
+     */
+    EQ("等值"),
+
+    /**
+     * 集合查询：column IN (?, ?)
+     */
+    IN("集合"),
+
+    /**
+     * 前缀模糊查询：column LIKE '?%'，可以使用索引
+     */
+    LIKE_PREFIX("前缀匹配"),
+
+    /**
+     * 范围查询：column &gt;= ? AND column &lt;= ?
+     */
+    RANGE("范围");
+
+    private final String desc;
+}
@@ -0,0 +1,69 @@
+package io.github.youngerier.generator.generators;
+
+import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.PackageStructure;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.lang.model.element.Modifier;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步Service接口生成器，方法从 {@link ServiceGenerator} 生成的接口派生，返回值包装为 {@link CompletableFuture}
+ */
+@Slf4j
+public class AsyncServiceGenerator implements CodeGenerator {
+    private final PackageStructure packageStructure;
+
+    public AsyncServiceGenerator(PackageStructure packageStructure) {
+        this.packageStructure = packageStructure;
+    }
+
+    @Override
+    public TypeSpec generate(ClassMetadata classMetadata) {
+        TypeSpec.Builder interfaceBuilder = TypeSpec.interfaceBuilder(getClassName(classMetadata))
+                .addModifiers(Modifier.PUBLIC);
+
+        if (classMetadata.getClassComment() != null && !classMetadata.getClassComment().isEmpty()) {
+            interfaceBuilder.addJavadoc(classMetadata.getClassComment() + "\n");
+        }
+        interfaceBuilder.addJavadoc("异步服务接口\n");
+
+        TypeSpec serviceSpec = new ServiceGenerator(packageStructure).generate(classMetadata);
+        for (MethodSpec serviceMethod : serviceSpec.methodSpecs) {
+            interfaceBuilder.addMethod(MethodSpec.methodBuilder(serviceMethod.name)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .addParameters(serviceMethod.parameters)
+                    .returns(toFutureType(serviceMethod.returnType))
+                    .addJavadoc(serviceMethod.javadoc)
+                    .build());
+        }
+        return interfaceBuilder.build();
+    }
+
+    /**
+     * 将同步返回类型包装为 CompletableFuture，基本类型装箱，void 转换为 Void
+     *
+     * @param returnType 同步返回类型
+     * @return 异步返回类型
+     */
+    static TypeName toFutureType(TypeName returnType) {
+        TypeName valueType = TypeName.VOID.equals(returnType) ? ClassName.get(Void.class) : returnType.box();
+        return ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), valueType);
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageStructure.getServicePackage();
+    }
+
+    @Override
+    public String getClassName(ClassMetadata classMetadata) {
+        return packageStructure.getAsyncServiceClassName();
+    }
+}
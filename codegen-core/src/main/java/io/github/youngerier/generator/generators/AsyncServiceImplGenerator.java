@@ -0,0 +1,84 @@
+package io.github.youngerier.generator.generators;
+
+import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.PackageStructure;
+import io.github.youngerier.support.concurrent.AsyncExecutors;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.lang.model.element.Modifier;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 异步Service实现类生成器，在 {@link AsyncExecutors} 提供的执行器上调用同步 Service
+ */
+@Slf4j
+public class AsyncServiceImplGenerator implements CodeGenerator {
+    private final PackageStructure packageStructure;
+
+    public AsyncServiceImplGenerator(PackageStructure packageStructure) {
+        this.packageStructure = packageStructure;
+    }
+
+    @Override
+    public TypeSpec generate(ClassMetadata classMetadata) {
+        ClassName serviceType = ClassName.get(packageStructure.getServicePackage(), packageStructure.getServiceClassName());
+        ClassName asyncServiceType = ClassName.get(packageStructure.getServicePackage(), packageStructure.getAsyncServiceClassName());
+        String serviceFieldName = classMetadata.getCamelClassName() + "Service";
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(getClassName(classMetadata))
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.stereotype", "Service"))
+                .addSuperinterface(asyncServiceType);
+
+        if (classMetadata.getClassComment() != null && !classMetadata.getClassComment().isEmpty()) {
+            classBuilder.addJavadoc(classMetadata.getClassComment() + "\n");
+        }
+        classBuilder.addJavadoc("异步服务实现类，在 {@link $T#get()} 返回的执行器上调用同步服务\n", AsyncExecutors.class);
+
+        classBuilder.addField(FieldSpec.builder(serviceType, serviceFieldName, Modifier.PRIVATE, Modifier.FINAL).build());
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(serviceType, serviceFieldName)
+                .addStatement("this.$N = $N", serviceFieldName, serviceFieldName)
+                .build());
+
+        TypeSpec serviceSpec = new ServiceGenerator(packageStructure).generate(classMetadata);
+        for (MethodSpec serviceMethod : serviceSpec.methodSpecs) {
+            MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(serviceMethod.name)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addAnnotation(Override.class)
+                    .returns(AsyncServiceGenerator.toFutureType(serviceMethod.returnType));
+            for (ParameterSpec parameter : serviceMethod.parameters) {
+                methodBuilder.addParameter(parameter.type, parameter.name);
+            }
+            String arguments = serviceMethod.parameters.stream().map(p -> p.name).collect(Collectors.joining(", "));
+            if (TypeName.VOID.equals(serviceMethod.returnType)) {
+                methodBuilder.addStatement("return $T.runAsync(() -> $N.$L($L), $T.get())",
+                        CompletableFuture.class, serviceFieldName, serviceMethod.name, arguments, AsyncExecutors.class);
+            } else {
+                methodBuilder.addStatement("return $T.supplyAsync(() -> $N.$L($L), $T.get())",
+                        CompletableFuture.class, serviceFieldName, serviceMethod.name, arguments, AsyncExecutors.class);
+            }
+            classBuilder.addMethod(methodBuilder.build());
+        }
+        return classBuilder.build();
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageStructure.getServiceImplPackage();
+    }
+
+    @Override
+    public String getClassName(ClassMetadata classMetadata) {
+        return packageStructure.getAsyncServiceImplClassName();
+    }
+}
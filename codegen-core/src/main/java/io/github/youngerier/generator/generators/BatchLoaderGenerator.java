@@ -0,0 +1,111 @@
+package io.github.youngerier.generator.generators;
+
+import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.PackageStructure;
+import io.github.youngerier.support.batch.BatchLoader;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.lang.model.element.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 批量加载器生成器，生成请求作用域的 {@code XxxBatchLoader}，
+ * 把同一请求内多次按ID查询合并为一次 getXxxByIds 批量查询。
+ * 请求作用域的 Bean 只能在处理请求的线程中使用，不能在异步服务的执行器线程中使用
+ */
+@Slf4j
+public class BatchLoaderGenerator implements CodeGenerator {
+
+    private final PackageStructure packageStructure;
+
+    public BatchLoaderGenerator(PackageStructure packageStructure) {
+        this.packageStructure = packageStructure;
+    }
+
+    @Override
+    public TypeSpec generate(ClassMetadata classMetadata) {
+        String entityName = classMetadata.getClassName();
+        ClassName serviceType = ClassName.get(packageStructure.getServicePackage(), packageStructure.getServiceClassName());
+        ClassName repositoryType = ClassName.get(packageStructure.getRepositoryPackage(), packageStructure.getRepositoryClassName());
+        ClassName dtoType = ClassName.get(packageStructure.getDtoPackage(), packageStructure.getDtoClassName());
+        ClassName longType = ClassName.get(Long.class);
+        String serviceName = classMetadata.getCamelClassName() + "Service";
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(getClassName(classMetadata))
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.stereotype", "Component"))
+                .addAnnotation(ClassName.get("org.springframework.web.context.annotation", "RequestScope"));
+
+        if (classMetadata.getClassComment() != null && !classMetadata.getClassComment().isEmpty()) {
+            classBuilder.addJavadoc(classMetadata.getClassComment() + "\n");
+        }
+        classBuilder.addJavadoc("批量加载器，请求作用域内合并按ID查询，同一ID只查询一次\n");
+
+        classBuilder.addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(BatchLoader.class), longType, dtoType), "loader")
+                .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                .build());
+
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(serviceType, serviceName)
+                .addStatement("this.loader = new $T<>($N::get$LByIds, $T.BATCH_SIZE)", BatchLoader.class, serviceName, entityName, repositoryType)
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("load")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(TypeName.LONG, "id")
+                .returns(dtoType)
+                .addJavadoc("根据ID加载$L，会一并查询之前通过 {@link #defer(long)} 登记的ID\n", entityName)
+                .addJavadoc("@param id 主键ID\n")
+                .addJavadoc("@return 对应的$L对象，不存在时返回 null\n", entityName)
+                .addStatement("return loader.get(id)")
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("defer")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(TypeName.LONG, "id")
+                .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), dtoType))
+                .addJavadoc("登记待加载的ID，在下一次 {@link #dispatch()} 或 load 时一并查询\n")
+                .addJavadoc("@param id 主键ID\n")
+                .addJavadoc("@return 加载结果\n")
+                .addStatement("return loader.load(id)")
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("loadAll")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), longType), "ids")
+                .returns(ParameterizedTypeName.get(ClassName.get(Map.class), longType, dtoType))
+                .addJavadoc("根据ID批量加载$L\n", entityName)
+                .addJavadoc("@param ids 主键ID集合\n")
+                .addJavadoc("@return 主键ID到$L对象的映射，不存在的ID不包含在结果中\n", entityName)
+                .addStatement("return loader.getAll(ids)")
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("dispatch")
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc("批量查询所有已登记的ID\n")
+                .addStatement("loader.dispatch()")
+                .build());
+
+        return classBuilder.build();
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageStructure.getServiceImplPackage();
+    }
+
+    @Override
+    public String getClassName(ClassMetadata classMetadata) {
+        return packageStructure.getBatchLoaderClassName();
+    }
+}
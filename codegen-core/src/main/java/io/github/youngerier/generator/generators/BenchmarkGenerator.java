@@ -0,0 +1,342 @@
+package io.github.youngerier.generator.generators;
+
+import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.annotation.QueryOperator;
+import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.PackageStructure;
+import io.github.youngerier.support.enums.DefaultOrderField;
+import io.github.youngerier.support.enums.QueryOrderType;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.lang.model.element.Modifier;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH 基准测试生成器，为每个实体生成覆盖转换器各方法与 Repository 查询条件构建的基准测试。
+ * 查询构建通过 Repository 的公开查询方法测量，Mapper 替换为不访问数据库的动态代理，只记录收到的 QueryWrapper
+ */
+@Slf4j
+public class BenchmarkGenerator implements CodeGenerator {
+
+    private static final String JMH_PACKAGE = "org.openjdk.jmh.annotations";
+
+    private final PackageStructure packageLayout;
+
+    public BenchmarkGenerator(PackageStructure packageLayout) {
+        this.packageLayout = packageLayout;
+    }
+
+    @Override
+    public TypeSpec generate(ClassMetadata pojoInfo) {
+        ClassName entityType = ClassName.get(pojoInfo.getPackageName(), pojoInfo.getClassName());
+        ClassName dtoType = ClassName.get(packageLayout.getDtoPackage(), packageLayout.getDtoClassName());
+        ClassName requestType = ClassName.get(packageLayout.getRequestPackage(), packageLayout.getRequestClassName());
+        ClassName responseType = ClassName.get(packageLayout.getResponsePackage(), packageLayout.getResponseClassName());
+        ClassName queryType = ClassName.get(packageLayout.getRequestPackage(), packageLayout.getQueryClassName());
+        ClassName convertorType = ClassName.get(packageLayout.getConvertorPackage(), packageLayout.getConvertorClassName());
+        ClassName repositoryType = ClassName.get(packageLayout.getRepositoryPackage(), packageLayout.getRepositoryClassName());
+        ClassName mapperType = ClassName.get(packageLayout.getMapperPackage(), packageLayout.getMapperClassName());
+        ClassName benchmarkType = ClassName.get(getPackageName(), getClassName(pojoInfo));
+        ParameterizedTypeName listOfEntity = ParameterizedTypeName.get(ClassName.get(List.class), entityType);
+        ParameterizedTypeName listOfDto = ParameterizedTypeName.get(ClassName.get(List.class), dtoType);
+        ParameterizedTypeName listOfResponse = ParameterizedTypeName.get(ClassName.get(List.class), responseType);
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(getClassName(pojoInfo))
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(jmh("State"))
+                        .addMember("value", "$T.Benchmark", jmh("Scope")).build())
+                .addAnnotation(AnnotationSpec.builder(jmh("BenchmarkMode"))
+                        .addMember("value", "$T.AverageTime", jmh("Mode")).build())
+                .addAnnotation(AnnotationSpec.builder(jmh("OutputTimeUnit"))
+                        .addMember("value", "$T.NANOSECONDS", TimeUnit.class).build())
+                .addAnnotation(AnnotationSpec.builder(jmh("Warmup"))
+                        .addMember("iterations", "$L", 3).addMember("time", "$L", 1).build())
+                .addAnnotation(AnnotationSpec.builder(jmh("Measurement"))
+                        .addMember("iterations", "$L", 5).addMember("time", "$L", 1).build())
+                .addAnnotation(AnnotationSpec.builder(jmh("Fork")).addMember("value", "$L", 1).build());
+
+        if (pojoInfo.getClassComment() != null && !pojoInfo.getClassComment().isEmpty()) {
+            classBuilder.addJavadoc(pojoInfo.getClassComment() + "\n");
+        }
+        classBuilder.addJavadoc("转换器与查询条件构建的基准测试\n");
+
+        classBuilder.addField(FieldSpec.builder(TypeName.INT, "size", Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(jmh("Param")).addMember("value", "{$S, $S}", "10", "1000").build())
+                .addJavadoc("列表转换的元素个数\n")
+                .build());
+        classBuilder.addField(FieldSpec.builder(convertorType, "convertor", Modifier.PRIVATE, Modifier.FINAL)
+                .initializer("$T.INSTANCE", convertorType)
+                .build());
+        classBuilder.addField(repositoryType, "repository", Modifier.PRIVATE);
+        classBuilder.addField(FieldSpec.builder(QueryWrapper.class, "lastQueryWrapper", Modifier.PRIVATE)
+                .addJavadoc("Mapper 代理最近一次收到的查询条件\n")
+                .build());
+        classBuilder.addField(entityType, "entity", Modifier.PRIVATE);
+        classBuilder.addField(dtoType, "dto", Modifier.PRIVATE);
+        classBuilder.addField(requestType, "request", Modifier.PRIVATE);
+        classBuilder.addField(listOfEntity, "entities", Modifier.PRIVATE);
+        classBuilder.addField(listOfDto, "dtos", Modifier.PRIVATE);
+        classBuilder.addField(queryType, "emptyQuery", Modifier.PRIVATE);
+        classBuilder.addField(queryType, "fullQuery", Modifier.PRIVATE);
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("setUp")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(jmh("Setup"))
+                .addStatement("$T mapper = ($T) $T.newProxyInstance($T.class.getClassLoader(), new $T<?>[]{$T.class}, this::invokeMapper)",
+                        mapperType, mapperType, Proxy.class, mapperType, Class.class, mapperType)
+                .addStatement("repository = $L", TypeSpec.anonymousClassBuilder("")
+                        .superclass(repositoryType)
+                        .addMethod(MethodSpec.methodBuilder("getMapper")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .returns(mapperType)
+                                .addStatement("return mapper")
+                                .build())
+                        .build())
+                .addStatement("entity = newEntity(1)")
+                .addStatement("dto = convertor.toDto(entity)")
+                .addStatement("request = newRequest(1)")
+                .addStatement("entities = new $T<>(size)", ArrayList.class)
+                .beginControlFlow("for (int i = 0; i < size; i++)")
+                .addStatement("entities.add(newEntity(i))")
+                .endControlFlow()
+                .addStatement("dtos = convertor.toDtoList(entities)")
+                .addStatement("emptyQuery = new $T()", queryType)
+                .addStatement("fullQuery = newFullQuery()")
+                .build());
+
+        classBuilder.addMethod(benchmark("entityToDto", dtoType, "convertor.toDto(entity)"));
+        classBuilder.addMethod(benchmark("requestToDto", dtoType, "convertor.toDto(request)"));
+        classBuilder.addMethod(benchmark("dtoToEntity", entityType, "convertor.toEntity(dto)"));
+        classBuilder.addMethod(benchmark("requestToEntity", entityType, "convertor.toEntity(request)"));
+        classBuilder.addMethod(benchmark("entityToResponse", responseType, "convertor.toResponse(entity)"));
+        classBuilder.addMethod(benchmark("dtoToResponse", responseType, "convertor.toResponse(dto)"));
+        classBuilder.addMethod(benchmark("entityListToDtoList", listOfDto, "convertor.toDtoList(entities)"));
+        classBuilder.addMethod(benchmark("dtoListToEntityList", listOfEntity, "convertor.toEntityList(dtos)"));
+        classBuilder.addMethod(benchmark("entityListToResponseList", listOfResponse, "convertor.toResponseList(entities)"));
+        classBuilder.addMethod(benchmark("selectByEmptyQuery", listOfEntity, "repository.selectListByQuery(emptyQuery)"));
+        classBuilder.addMethod(benchmark("selectByFullQuery", listOfEntity, "repository.selectListByQuery(fullQuery)"));
+        classBuilder.addMethod(MethodSpec.methodBuilder("renderFullQuerySql")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(jmh("Benchmark"))
+                .returns(String.class)
+                .addStatement("repository.selectListByQuery(fullQuery)")
+                .addStatement("return lastQueryWrapper.toSQL()")
+                .build());
+        classBuilder.addMethod(buildInvokeMapperMethod());
+
+        classBuilder.addMethod(buildNewEntityMethod(pojoInfo, entityType));
+        classBuilder.addMethod(buildNewRequestMethod(pojoInfo, requestType));
+        classBuilder.addMethod(buildNewFullQueryMethod(pojoInfo, queryType));
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("main")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(String[].class, "args")
+                .addException(ClassName.get("org.openjdk.jmh.runner", "RunnerException"))
+                .addStatement("new $T(new $T().include($T.class.getSimpleName()).build()).run()",
+                        ClassName.get("org.openjdk.jmh.runner", "Runner"),
+                        ClassName.get("org.openjdk.jmh.runner.options", "OptionsBuilder"),
+                        benchmarkType)
+                .build());
+
+        return classBuilder.build();
+    }
+
+    private MethodSpec benchmark(String methodName, TypeName returnType, String expression) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(jmh("Benchmark"))
+                .returns(returnType)
+                .addStatement("return $L", expression)
+                .build();
+    }
+
+    /**
+     * Mapper 代理的调用处理：默认方法按接口实现执行，查询方法记录 QueryWrapper 并返回空结果，不访问数据库
+     */
+    private MethodSpec buildInvokeMapperMethod() {
+        return MethodSpec.methodBuilder("invokeMapper")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(Object.class, "proxy")
+                .addParameter(Method.class, "method")
+                .addParameter(Object[].class, "args")
+                .addException(Throwable.class)
+                .returns(Object.class)
+                .beginControlFlow("if (method.isDefault())")
+                .addStatement("return $T.invokeDefault(proxy, method, args)", InvocationHandler.class)
+                .endControlFlow()
+                .beginControlFlow("if (args != null)")
+                .beginControlFlow("for (Object arg : args)")
+                .beginControlFlow("if (arg instanceof $T queryWrapper)", QueryWrapper.class)
+                .addStatement("lastQueryWrapper = queryWrapper")
+                .endControlFlow()
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return $T.class.isAssignableFrom(method.getReturnType()) ? $T.emptyList() : null", List.class, Collections.class)
+                .build();
+    }
+
+    private MethodSpec buildNewEntityMethod(ClassMetadata pojoInfo, ClassName entityType) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("newEntity")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(TypeName.INT, "index")
+                .returns(entityType)
+                .addStatement("$T entity = new $T()", entityType, entityType);
+        for (ClassMetadata.FieldInfo field : pojoInfo.getFields()) {
+            CodeBlock value = sampleValue(field, CodeBlock.of("index"));
+            if (value != null) {
+                methodBuilder.addStatement("entity.$L($L)", DirectConvertorGenerator.setterName(field), value);
+            }
+        }
+        return methodBuilder.addStatement("return entity").build();
+    }
+
+    private MethodSpec buildNewRequestMethod(ClassMetadata pojoInfo, ClassName requestType) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("newRequest")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(TypeName.INT, "index")
+                .returns(requestType)
+                .addStatement("$T request = new $T()", requestType, requestType);
+        for (ClassMetadata.FieldInfo field : pojoInfo.getFields()) {
+            if (RequestGenerator.EXCLUDED_FIELDS.contains(field.getName())) {
+                continue;
+            }
+            CodeBlock value = sampleValue(field, CodeBlock.of("index"));
+            if (value != null) {
+                methodBuilder.addStatement("request.$L($L)", DirectConvertorGenerator.setterName(field), value);
+            }
+        }
+        return methodBuilder.addStatement("return request").build();
+    }
+
+    /**
+     * 填充全部查询条件与排序字段，使查询条件构建走完所有分支
+     */
+    private MethodSpec buildNewFullQueryMethod(ClassMetadata pojoInfo, ClassName queryType) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("newFullQuery")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(queryType)
+                .addStatement("$T query = new $T()", queryType, queryType);
+        for (ClassMetadata.FieldInfo field : pojoInfo.getQueryFieldsInIndexOrder()) {
+            String fieldName = field.getName();
+            CodeBlock first = sampleValue(field, CodeBlock.of("1"));
+            CodeBlock second = sampleValue(field, CodeBlock.of("2"));
+            if (first == null) {
+                continue;
+            }
+            if (field.supports(QueryOperator.EQ)) {
+                methodBuilder.addStatement("query.$L($L)", QueryFieldNames.setter(fieldName), first);
+            }
+            if (field.supports(QueryOperator.IN)) {
+                methodBuilder.addStatement("query.$L($T.of($L, $L))",
+                        QueryFieldNames.setter(QueryFieldNames.inName(fieldName)), List.class, first, second);
+            }
+            if (field.supports(QueryOperator.LIKE_PREFIX)) {
+                methodBuilder.addStatement("query.$L($S)", QueryFieldNames.setter(QueryFieldNames.prefixName(fieldName)), fieldName);
+            }
+            if (field.supports(QueryOperator.RANGE)) {
+                methodBuilder.addStatement("query.$L($L)", QueryFieldNames.setter(QueryFieldNames.minName(fieldName)), first);
+                methodBuilder.addStatement("query.$L($L)", QueryFieldNames.setter(QueryFieldNames.maxName(fieldName)), second);
+            }
+        }
+        return methodBuilder
+                .addStatement("query.setOrderFields($T.gmtCreate())", DefaultOrderField.class)
+                .addStatement("query.setOrderTypes($T.desc())", QueryOrderType.class)
+                .addStatement("return query")
+                .build();
+    }
+
+    /**
+     * 根据字段类型生成示例值表达式，无法构造的类型（枚举、自定义类型等）返回 null，保持字段为空
+     *
+     * @param field 字段信息
+     * @param index 序号表达式，用于区分不同的示例对象
+     * @return 示例值表达式
+     */
+    private static CodeBlock sampleValue(ClassMetadata.FieldInfo field, CodeBlock index) {
+        TypeName type = field.getType();
+        if (type == null) {
+            return null;
+        }
+        if (type.isBoxedPrimitive()) {
+            type = type.unbox();
+        }
+        if (TypeName.INT.equals(type)) {
+            return index;
+        }
+        if (TypeName.LONG.equals(type)) {
+            return CodeBlock.of("(long) $L", index);
+        }
+        if (TypeName.SHORT.equals(type)) {
+            return CodeBlock.of("(short) $L", index);
+        }
+        if (TypeName.BYTE.equals(type)) {
+            return CodeBlock.of("(byte) $L", index);
+        }
+        if (TypeName.DOUBLE.equals(type)) {
+            return CodeBlock.of("$L * 1.5d", index);
+        }
+        if (TypeName.FLOAT.equals(type)) {
+            return CodeBlock.of("$L * 1.5f", index);
+        }
+        if (TypeName.BOOLEAN.equals(type)) {
+            return CodeBlock.of("$L % 2 == 0", index);
+        }
+        if (TypeName.CHAR.equals(type)) {
+            return CodeBlock.of("(char) ('a' + $L % 26)", index);
+        }
+        if (ClassName.get(String.class).equals(type)) {
+            return CodeBlock.of("$S + $L", field.getName() + "-", index);
+        }
+        if (ClassName.get(BigDecimal.class).equals(type)) {
+            return CodeBlock.of("$T.valueOf($L)", BigDecimal.class, index);
+        }
+        if (ClassName.get(LocalDateTime.class).equals(type)) {
+            return CodeBlock.of("$T.of(2024, 1, 1, 0, 0).plusSeconds($L)", LocalDateTime.class, index);
+        }
+        if (ClassName.get(LocalDate.class).equals(type)) {
+            return CodeBlock.of("$T.of(2024, 1, 1).plusDays($L)", LocalDate.class, index);
+        }
+        if (ClassName.get(Instant.class).equals(type)) {
+            return CodeBlock.of("$T.ofEpochSecond(1704067200L + $L)", Instant.class, index);
+        }
+        if (ClassName.get(Date.class).equals(type)) {
+            return CodeBlock.of("new $T(1704067200000L + $L)", Date.class, index);
+        }
+        return null;
+    }
+
+    private static ClassName jmh(String simpleName) {
+        return ClassName.get(JMH_PACKAGE, simpleName);
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageLayout.getRepositoryPackage();
+    }
+
+    @Override
+    public String getClassName(ClassMetadata pojoInfo) {
+        return packageLayout.getBenchmarkClassName();
+    }
+}
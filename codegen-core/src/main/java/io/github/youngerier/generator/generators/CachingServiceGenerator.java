@@ -0,0 +1,255 @@
+package io.github.youngerier.generator.generators;
+
+import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.PackageStructure;
+import io.github.youngerier.support.cache.EntityCache;
+import io.github.youngerier.support.cache.EntityCaches;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.lang.model.element.Modifier;
+import java.beans.Introspector;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 缓存服务生成器，生成 {@code @Primary} 的 Service 装饰器：
+ * getXxxById 与 queryXxxs 读穿缓存，写方法在委托调用后使缓存失效。
+ *
+ * <p>方法列表从 {@link ServiceGenerator} 生成的接口中派生，Service 新增方法时无需修改本生成器：
+ * 以 create/update/patch/delete 开头的方法视为写方法，其余方法直接委托。
+ *
+ * <p>DTO 是可变对象，写入与读取缓存时都会复制，调用方修改返回值不会影响缓存；命中缓存的查询结果为不可变列表。
+ *
+ * <p>读穿通过 {@link EntityCache#get}/{@link EntityCache#getAll} 完成，加载期间写方法失效了对应的缓存时不回填，
+ * 避免读取到的旧值在事务提交并失效缓存之后才写入缓存。
+ */
+@Slf4j
+public class CachingServiceGenerator implements CodeGenerator {
+
+    private static final List<String> WRITE_METHOD_PREFIXES = List.of("create", "update", "patch", "delete");
+
+    private static final ClassName TX_SYNC_MANAGER = ClassName.get("org.springframework.transaction.support", "TransactionSynchronizationManager");
+
+    private static final ClassName TX_SYNC = ClassName.get("org.springframework.transaction.support", "TransactionSynchronization");
+
+    private final PackageStructure packageStructure;
+
+    public CachingServiceGenerator(PackageStructure packageStructure) {
+        this.packageStructure = packageStructure;
+    }
+
+    @Override
+    public TypeSpec generate(ClassMetadata classMetadata) {
+        String entityName = classMetadata.getClassName();
+        ClassName serviceType = ClassName.get(packageStructure.getServicePackage(), packageStructure.getServiceClassName());
+        ClassName dtoType = ClassName.get(packageStructure.getDtoPackage(), packageStructure.getDtoClassName());
+        ClassName queryType = ClassName.get(packageStructure.getRequestPackage(), packageStructure.getQueryClassName());
+        TypeName byIdCacheType = ParameterizedTypeName.get(ClassName.get(EntityCache.class), ClassName.get(Long.class), dtoType);
+        TypeName queryCacheType = ParameterizedTypeName.get(ClassName.get(EntityCache.class), ClassName.get(String.class),
+                ParameterizedTypeName.get(ClassName.get(List.class), dtoType));
+        String byIdCacheName = classMetadata.getCamelClassName() + "ByIdCache";
+        String queryCacheName = classMetadata.getCamelClassName() + "QueryCache";
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(getClassName(classMetadata))
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.stereotype", "Service"))
+                .addAnnotation(ClassName.get("org.springframework.context.annotation", "Primary"))
+                .addSuperinterface(serviceType);
+
+        if (classMetadata.getClassComment() != null && !classMetadata.getClassComment().isEmpty()) {
+            classBuilder.addJavadoc(classMetadata.getClassComment() + "\n");
+        }
+        classBuilder.addJavadoc("缓存服务，按ID与查询条件缓存查询结果，写操作后失效缓存\n");
+
+        classBuilder.addField(FieldSpec.builder(serviceType, "delegate", Modifier.PRIVATE, Modifier.FINAL).build());
+        classBuilder.addField(FieldSpec.builder(byIdCacheType, byIdCacheName, Modifier.PRIVATE, Modifier.FINAL).build());
+        classBuilder.addField(FieldSpec.builder(queryCacheType, queryCacheName, Modifier.PRIVATE, Modifier.FINAL).build());
+
+        // 按接口与实现类的 Bean 名称注入，避免注入自身；实现类被 JDK 接口代理时同样可以注入
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(serviceType, "delegate")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.beans.factory.annotation", "Qualifier"))
+                                .addMember("value", "$S", Introspector.decapitalize(packageStructure.getServiceImplClassName()))
+                                .build())
+                        .build())
+                .addStatement("this.delegate = delegate")
+                .addStatement("this.$N = $T.create($S, $L, $T.ofSeconds($L), $L::copy)", byIdCacheName, EntityCaches.class,
+                        entityName + ":byId", classMetadata.getCacheMaxSize(), Duration.class, classMetadata.getCacheTtlSeconds() + "L",
+                        getClassName(classMetadata))
+                .addStatement("this.$N = $T.create($S, $L, $T.ofSeconds($L), $L::copyList)", queryCacheName, EntityCaches.class,
+                        entityName + ":query", classMetadata.getCacheMaxSize(), Duration.class, classMetadata.getCacheTtlSeconds() + "L",
+                        getClassName(classMetadata))
+                .build());
+
+        String getByIdName = "get" + entityName + "ById";
+        String getByIdsName = "get" + entityName + "ByIds";
+        String queryName = "query" + entityName + "s";
+        TypeSpec serviceSpec = new ServiceGenerator(packageStructure).generate(classMetadata);
+        for (MethodSpec serviceMethod : serviceSpec.methodSpecs) {
+            MethodSpec.Builder methodBuilder = overriding(serviceMethod);
+            String arguments = serviceMethod.parameters.stream().map(p -> p.name).collect(Collectors.joining(", "));
+            boolean returnsValue = !TypeName.VOID.equals(serviceMethod.returnType);
+
+            if (serviceMethod.name.equals(getByIdName)) {
+                methodBuilder.addStatement("return $N.get(id, key -> delegate.$L(key))", byIdCacheName, getByIdName);
+            } else if (serviceMethod.name.equals(getByIdsName)) {
+                methodBuilder.addCode(buildGetByIdsBody(byIdCacheName, getByIdsName));
+            } else if (serviceMethod.name.equals(queryName)) {
+                methodBuilder.addStatement("return $N.get(cacheKey(query), key -> delegate.$L(query))", queryCacheName, queryName);
+            } else if (isWriteMethod(serviceMethod)) {
+                if (returnsValue) {
+                    methodBuilder.addStatement("$T result = delegate.$L($L)", serviceMethod.returnType, serviceMethod.name, arguments);
+                } else {
+                    methodBuilder.addStatement("delegate.$L($L)", serviceMethod.name, arguments);
+                }
+                methodBuilder.addStatement("invalidate(() -> $L)", invalidation(serviceMethod, byIdCacheName, queryCacheName));
+                if (returnsValue) {
+                    methodBuilder.addStatement("return result");
+                }
+            } else {
+                methodBuilder.addStatement(returnsValue ? "return delegate.$L($L)" : "delegate.$L($L)", serviceMethod.name, arguments);
+            }
+            classBuilder.addMethod(methodBuilder.build());
+        }
+
+        classBuilder.addMethod(buildCopyMethod(classMetadata, dtoType));
+        classBuilder.addMethod(buildCopyListMethod(dtoType));
+        classBuilder.addMethod(buildCacheKeyMethod(queryType));
+        classBuilder.addMethod(buildInvalidateMethod());
+        return classBuilder.build();
+    }
+
+    /**
+     * 批量查询先读按ID缓存，只对未命中的ID执行一次批量查询并回填缓存；
+     * 与 ServiceImpl 一致，ids 为 null 或空时返回空结果，null 元素与重复ID被忽略
+     */
+    private CodeBlock buildGetByIdsBody(String byIdCacheName, String getByIdsName) {
+        return CodeBlock.builder()
+                .beginControlFlow("if (ids == null || ids.isEmpty())")
+                .addStatement("return $T.emptyMap()", Collections.class)
+                .endControlFlow()
+                .addStatement("return $N.getAll(ids, missingIds -> delegate.$L(missingIds))", byIdCacheName, getByIdsName)
+                .build();
+    }
+
+    /**
+     * 生成失效逻辑：带单个 id 参数的写方法只失效对应条目，其余写方法（如批量更新）清空按ID缓存；
+     * 任何写操作都会清空查询缓存
+     */
+    private CodeBlock invalidation(MethodSpec method, String byIdCacheName, String queryCacheName) {
+        boolean hasId = method.parameters.stream().anyMatch(p -> p.name.equals("id"));
+        boolean creates = method.name.startsWith("create");
+        CodeBlock.Builder builder = CodeBlock.builder().add("{\n").indent();
+        if (hasId) {
+            builder.addStatement("$N.evict(id)", byIdCacheName);
+        } else if (!creates) {
+            builder.addStatement("$N.clear()", byIdCacheName);
+        }
+        builder.addStatement("$N.clear()", queryCacheName);
+        return builder.unindent().add("}").build();
+    }
+
+    private boolean isWriteMethod(MethodSpec method) {
+        return WRITE_METHOD_PREFIXES.stream().anyMatch(method.name::startsWith);
+    }
+
+    private MethodSpec.Builder overriding(MethodSpec serviceMethod) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(serviceMethod.name)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(serviceMethod.returnType);
+        for (ParameterSpec parameter : serviceMethod.parameters) {
+            builder.addParameter(parameter.type, parameter.name);
+        }
+        return builder;
+    }
+
+    /**
+     * DTO 是可变对象，写入与读取缓存时逐字段复制，调用方修改返回值不会影响缓存
+     */
+    private MethodSpec buildCopyMethod(ClassMetadata classMetadata, ClassName dtoType) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("copy")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(dtoType, "source")
+                .returns(dtoType)
+                .addStatement("$T target = new $T()", dtoType, dtoType);
+        for (ClassMetadata.FieldInfo field : classMetadata.getFields()) {
+            builder.addStatement("target.$L(source.$L())",
+                    DirectConvertorGenerator.setterName(field), DirectConvertorGenerator.getterName(field));
+        }
+        return builder.addStatement("return target").build();
+    }
+
+    /**
+     * 查询结果列表复制为不可变列表，元素逐个复制
+     */
+    private MethodSpec buildCopyListMethod(ClassName dtoType) {
+        TypeName listType = ParameterizedTypeName.get(ClassName.get(List.class), dtoType);
+        return MethodSpec.methodBuilder("copyList")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(listType, "source")
+                .returns(listType)
+                .addStatement("$T copies = new $T<>(source.size())", listType, ArrayList.class)
+                .beginControlFlow("for ($T item : source)", dtoType)
+                .addStatement("copies.add(copy(item))")
+                .endControlFlow()
+                .addStatement("return $T.copyOf(copies)", List.class)
+                .build();
+    }
+
+    private MethodSpec buildCacheKeyMethod(ClassName queryType) {
+        return MethodSpec.methodBuilder("cacheKey")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(queryType, "query")
+                .returns(String.class)
+                .addJavadoc("查询缓存键，Query 的 toString 不包含父类的排序字段，需要单独拼接\n")
+                .addStatement("return query + $S + $T.toString(query.getOrderFields()) + $T.toString(query.getOrderTypes())",
+                        "|", Arrays.class, Arrays.class)
+                .build();
+    }
+
+    private MethodSpec buildInvalidateMethod() {
+        TypeSpec afterCommit = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(TX_SYNC)
+                .addMethod(MethodSpec.methodBuilder("afterCommit")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addStatement("invalidation.run()")
+                        .build())
+                .build();
+        return MethodSpec.methodBuilder("invalidate")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(ParameterSpec.builder(Runnable.class, "invalidation").addModifiers(Modifier.FINAL).build())
+                .addJavadoc("立即失效缓存；在外层事务中调用时，事务提交后再失效一次，避免提交前被并发读取回填旧值\n")
+                .addStatement("invalidation.run()")
+                .beginControlFlow("if ($T.isSynchronizationActive())", TX_SYNC_MANAGER)
+                .addStatement("$T.registerSynchronization($L)", TX_SYNC_MANAGER, afterCommit)
+                .endControlFlow()
+                .build();
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageStructure.getServiceImplPackage();
+    }
+
+    @Override
+    public String getClassName(ClassMetadata classMetadata) {
+        return packageStructure.getCachingServiceClassName();
+    }
+}
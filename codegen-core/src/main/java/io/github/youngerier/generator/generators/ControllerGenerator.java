@@ -1,12 +1,16 @@
 package io.github.youngerier.generator.generators;
 
 import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.GeneratedLayer;
 import io.github.youngerier.generator.model.PackageStructure;
 import io.github.youngerier.generator.model.ClassMetadata;
 import io.github.youngerier.support.Response;
+import io.github.youngerier.support.concurrent.AsyncExecutors;
+import io.github.youngerier.support.page.CursorPagination;
 import io.github.youngerier.support.page.Pagination;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -16,7 +20,11 @@ import com.squareup.javapoet.TypeSpec;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller控制器生成器
@@ -24,10 +32,24 @@ import java.util.List;
 @Slf4j
 public class ControllerGenerator implements CodeGenerator {
 
+    private static final ClassName OBJECT_MAPPER = ClassName.get("com.fasterxml.jackson.databind", "ObjectMapper");
+
     private final PackageStructure packageStructure;
 
+    private final boolean async;
+
     public ControllerGenerator(PackageStructure packageStructure) {
+        this(packageStructure, false);
+    }
+
+    /**
+     * @param packageStructure 包结构
+     * @param async            是否生成异步 Controller，方法调用生成的异步服务并返回 CompletableFuture，
+     *                         服务在 {@link AsyncExecutors} 的执行器上执行
+     */
+    public ControllerGenerator(PackageStructure packageStructure, boolean async) {
         this.packageStructure = packageStructure;
+        this.async = async;
     }
 
     @Override
@@ -59,11 +81,24 @@ public class ControllerGenerator implements CodeGenerator {
             classBuilder.addJavadoc("控制器\n");
         }
 
-        // 添加服务字段
-        FieldSpec serviceField = FieldSpec.builder(serviceType, classMetadata.getCamelClassName() + "Service")
-                .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
-                .build();
-        classBuilder.addField(serviceField);
+        // 添加服务字段，异步 Controller 调用异步服务，流式导出仍需同步服务
+        String serviceName = classMetadata.getCamelClassName() + (async ? "AsyncService" : "Service");
+        if (!async || classMetadata.isStreamExport()) {
+            classBuilder.addField(FieldSpec.builder(serviceType, classMetadata.getCamelClassName() + "Service")
+                    .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                    .build());
+        }
+        if (async) {
+            ClassName asyncServiceType = ClassName.get(packageStructure.getServicePackage(), packageStructure.getAsyncServiceClassName());
+            classBuilder.addField(FieldSpec.builder(asyncServiceType, serviceName)
+                    .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                    .build());
+        }
+        if (classMetadata.isStreamExport()) {
+            classBuilder.addField(FieldSpec.builder(OBJECT_MAPPER, "objectMapper")
+                    .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                    .build());
+        }
 
         // 添加创建方法
         MethodSpec createMethod = MethodSpec.methodBuilder("create" + classMetadata.getClassName())
@@ -79,12 +114,7 @@ public class ControllerGenerator implements CodeGenerator {
                         classMetadata.getClassName())
                 .addJavadoc("@return 创建的$L对象\n", classMetadata.getClassName())
                 .addStatement("log.info(\"创建$L: {}\", $L)", classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTO")
-                .addStatement("$T result = $L.create$L($L)", 
-                        dtoType,
-                        classMetadata.getCamelClassName() + "Service",
-                        classMetadata.getClassName(),
-                        classMetadata.getCamelClassName() + "DTO")
-                .addStatement("return $T.ok(result)", responseType)
+                .addCode(respond(dtoType, "$N.create$L($L)", serviceName, classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTO"))
                 .build();
         classBuilder.addMethod(createMethod);
 
@@ -102,14 +132,28 @@ public class ControllerGenerator implements CodeGenerator {
                 .addJavadoc("@param id 主键ID\n")
                 .addJavadoc("@return 对应的$L对象\n", classMetadata.getClassName())
                 .addStatement("log.info(\"根据ID查询$L: {}\", id)", classMetadata.getClassName())
-                .addStatement("$T result = $L.get$LById(id)", 
-                        dtoType,
-                        classMetadata.getCamelClassName() + "Service",
-                        classMetadata.getClassName())
-                .addStatement("return $T.ok(result)", responseType)
+                .addCode(respond(dtoType, "$N.get$LById(id)", serviceName, classMetadata.getClassName()))
                 .build();
         classBuilder.addMethod(getByIdMethod);
 
+        // 添加根据ID批量查询方法
+        MethodSpec getByIdsMethod = MethodSpec.methodBuilder("get" + classMetadata.getClassName() + "ByIds")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseType, ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(Long.class), dtoType)))
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                        .addMember("value", "$S", "/by-ids")
+                        .build())
+                .addParameter(ParameterSpec.builder(ParameterizedTypeName.get(listType, ClassName.get(Long.class)), "ids")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                        .build())
+                .addJavadoc("根据ID批量查询$L\n", classMetadata.getClassName())
+                .addJavadoc("@param ids 主键ID列表\n")
+                .addJavadoc("@return 主键ID到$L对象的映射\n", classMetadata.getClassName())
+                .addStatement("log.info(\"根据ID批量查询$L: size={}\", ids.size())", classMetadata.getClassName())
+                .addCode(respond(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(Long.class), dtoType), "$N.get$LByIds(ids)", serviceName, classMetadata.getClassName()))
+                .build();
+        classBuilder.addMethod(getByIdsMethod);
+
         // 添加查询列表方法
         MethodSpec queryListMethod = MethodSpec.methodBuilder("query" + classMetadata.getClassName() + "List")
                 .addModifiers(Modifier.PUBLIC)
@@ -124,11 +168,7 @@ public class ControllerGenerator implements CodeGenerator {
                 .addJavadoc("@param query 查询条件\n")
                 .addJavadoc("@return $L对象列表\n", classMetadata.getClassName())
                 .addStatement("log.info(\"查询$L列表: {}\", query)", classMetadata.getClassName())
-                .addStatement("$T<$T> result = $L.query$Ls(query)", 
-                        listType, dtoType,
-                        classMetadata.getCamelClassName() + "Service",
-                        classMetadata.getClassName())
-                .addStatement("return $T.ok(result)", responseType)
+                .addCode(respond(ParameterizedTypeName.get(listType, dtoType), "$N.query$Ls(query)", serviceName, classMetadata.getClassName()))
                 .build();
         classBuilder.addMethod(queryListMethod);
 
@@ -146,14 +186,78 @@ public class ControllerGenerator implements CodeGenerator {
                 .addJavadoc("@param query 查询条件\n")
                 .addJavadoc("@return $L分页对象\n", classMetadata.getClassName())
                 .addStatement("log.info(\"分页查询$L: {}\", query)", classMetadata.getClassName())
-                .addStatement("$T<$T> result = $L.pageQuery$Ls(query)", 
-                        paginationType, dtoType,
-                        classMetadata.getCamelClassName() + "Service",
-                        classMetadata.getClassName())
-                .addStatement("return $T.ok(result)", responseType)
+                .addCode(respond(ParameterizedTypeName.get(paginationType, dtoType), "$N.pageQuery$Ls(query)", serviceName, classMetadata.getClassName()))
                 .build();
         classBuilder.addMethod(pageQueryMethod);
 
+        // 添加游标分页查询方法
+        MethodSpec seekQueryMethod = MethodSpec.methodBuilder("seekQuery" + classMetadata.getClassName() + "s")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseType, ParameterizedTypeName.get(ClassName.get(CursorPagination.class), dtoType)))
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                        .addMember("value", "$S", "/seek")
+                        .build())
+                .addParameter(ParameterSpec.builder(queryType, "query")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                        .build())
+                .addParameter(ParameterSpec.builder(Long.class, "lastId")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestParam"))
+                                .addMember("value", "$S", "lastId")
+                                .addMember("required", "false")
+                                .build())
+                        .build())
+                .addJavadoc("游标分页查询$L\n", classMetadata.getClassName())
+                .addJavadoc("@param query  查询条件\n")
+                .addJavadoc("@param lastId 上一页返回的游标，为空时查询第一页\n")
+                .addJavadoc("@return $L游标分页对象\n", classMetadata.getClassName())
+                .addStatement("log.info(\"游标分页查询$L: lastId={}, query={}\", lastId, query)", classMetadata.getClassName())
+                .addCode(respond(ParameterizedTypeName.get(ClassName.get(CursorPagination.class), dtoType), "$N.seekQuery$Ls(query, lastId)", serviceName, classMetadata.getClassName()))
+                .build();
+        classBuilder.addMethod(seekQueryMethod);
+
+        // 添加流式导出方法
+        if (classMetadata.isStreamExport()) {
+            classBuilder.addMethod(buildExportMethod(classMetadata, dtoType, queryType));
+        }
+
+        // 添加列表视图查询方法
+        if (classMetadata.hasListView()) {
+            ClassName listItemType = ClassName.get(packageStructure.getResponsePackage(), packageStructure.getListItemClassName());
+            MethodSpec queryListItemsMethod = MethodSpec.methodBuilder("query" + classMetadata.getClassName() + "ListItems")
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(responseType, ParameterizedTypeName.get(listType, listItemType)))
+                    .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                            .addMember("value", "$S", "/list-items")
+                            .build())
+                    .addParameter(ParameterSpec.builder(queryType, "query")
+                            .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                            .build())
+                    .addJavadoc("查询$L列表视图\n", classMetadata.getClassName())
+                    .addJavadoc("@param query 查询条件\n")
+                    .addJavadoc("@return $L列表视图对象列表\n", classMetadata.getClassName())
+                    .addStatement("log.info(\"查询$L列表视图: {}\", query)", classMetadata.getClassName())
+                    .addCode(respond(ParameterizedTypeName.get(listType, listItemType), "$N.query$LListItems(query)", serviceName, classMetadata.getClassName()))
+                    .build();
+            classBuilder.addMethod(queryListItemsMethod);
+
+            MethodSpec pageQueryListItemsMethod = MethodSpec.methodBuilder("pageQuery" + classMetadata.getClassName() + "ListItems")
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(responseType, ParameterizedTypeName.get(paginationType, listItemType)))
+                    .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                            .addMember("value", "$S", "/list-items/page")
+                            .build())
+                    .addParameter(ParameterSpec.builder(queryType, "query")
+                            .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                            .build())
+                    .addJavadoc("分页查询$L列表视图\n", classMetadata.getClassName())
+                    .addJavadoc("@param query 查询条件\n")
+                    .addJavadoc("@return $L列表视图分页对象\n", classMetadata.getClassName())
+                    .addStatement("log.info(\"分页查询$L列表视图: {}\", query)", classMetadata.getClassName())
+                    .addCode(respond(ParameterizedTypeName.get(paginationType, listItemType), "$N.pageQuery$LListItems(query)", serviceName, classMetadata.getClassName()))
+                    .build();
+            classBuilder.addMethod(pageQueryListItemsMethod);
+        }
+
         // 添加更新方法
         MethodSpec updateMethod = MethodSpec.methodBuilder("update" + classMetadata.getClassName())
                 .addModifiers(Modifier.PUBLIC)
@@ -168,16 +272,73 @@ public class ControllerGenerator implements CodeGenerator {
                         classMetadata.getClassName())
                 .addJavadoc("@return 更新后的$L对象\n", classMetadata.getClassName())
                 .addStatement("log.info(\"更新$L: id={}, data={}\", $L.getId(), $L)", classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTO", classMetadata.getCamelClassName() + "DTO")
-                .addStatement("$T result = $L.update$L($L.getId(), $L)", 
-                        dtoType,
-                        classMetadata.getCamelClassName() + "Service",
-                        classMetadata.getClassName(),
-                        classMetadata.getCamelClassName() + "DTO",
-                        classMetadata.getCamelClassName() + "DTO")
-                .addStatement("return $T.ok(result)", responseType)
+                .addCode(respond(dtoType, "$N.update$L($L.getId(), $L)", serviceName, classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTO", classMetadata.getCamelClassName() + "DTO"))
                 .build();
         classBuilder.addMethod(updateMethod);
 
+        // 添加部分更新方法
+        MethodSpec patchMethod = MethodSpec.methodBuilder("patch" + classMetadata.getClassName())
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseType, ClassName.get(Boolean.class)))
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PatchMapping"))
+                        .addMember("value", "$S", "/{id}")
+                        .build())
+                .addParameter(ParameterSpec.builder(TypeName.LONG, "id")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PathVariable")).build())
+                        .build())
+                .addParameter(ParameterSpec.builder(dtoType, classMetadata.getCamelClassName() + "DTO")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                        .build())
+                .addJavadoc("部分更新$L，只更新请求中不为 null 的字段\n", classMetadata.getClassName())
+                .addJavadoc("@param id 主键ID\n")
+                .addJavadoc("@param $L 需要更新的字段\n", classMetadata.getCamelClassName() + "DTO")
+                .addJavadoc("@return 是否更新成功\n")
+                .addStatement("log.info(\"部分更新$L: id={}, data={}\", id, $L)", classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTO")
+                .addCode(respond(TypeName.BOOLEAN, "$N.patch$L(id, $L)", serviceName, classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTO"))
+                .build();
+        classBuilder.addMethod(patchMethod);
+
+        // 添加批量创建方法
+        ParameterizedTypeName listOfDto = ParameterizedTypeName.get(listType, dtoType);
+        MethodSpec createBatchMethod = MethodSpec.methodBuilder("create" + classMetadata.getClassName() + "Batch")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseType, ClassName.get(Integer.class)))
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                        .addMember("value", "$S", "/batch")
+                        .build())
+                .addParameter(ParameterSpec.builder(listOfDto, classMetadata.getCamelClassName() + "DTOList")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                        .build())
+                .addJavadoc("批量创建$L\n", classMetadata.getClassName())
+                .addJavadoc("@param $L $L数据传输对象列表\n",
+                        classMetadata.getCamelClassName() + "DTOList",
+                        classMetadata.getClassName())
+                .addJavadoc("@return 创建的记录数\n")
+                .addStatement("log.info(\"批量创建$L: size={}\", $L.size())", classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTOList")
+                .addCode(respond(TypeName.INT, "$N.create$LBatch($L)", serviceName, classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTOList"))
+                .build();
+        classBuilder.addMethod(createBatchMethod);
+
+        // 添加批量更新方法
+        MethodSpec updateBatchMethod = MethodSpec.methodBuilder("update" + classMetadata.getClassName() + "Batch")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseType, ClassName.get(Integer.class)))
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PutMapping"))
+                        .addMember("value", "$S", "/batch")
+                        .build())
+                .addParameter(ParameterSpec.builder(listOfDto, classMetadata.getCamelClassName() + "DTOList")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                        .build())
+                .addJavadoc("批量更新$L\n", classMetadata.getClassName())
+                .addJavadoc("@param $L $L数据传输对象列表\n",
+                        classMetadata.getCamelClassName() + "DTOList",
+                        classMetadata.getClassName())
+                .addJavadoc("@return 更新的记录数\n")
+                .addStatement("log.info(\"批量更新$L: size={}\", $L.size())", classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTOList")
+                .addCode(respond(TypeName.INT, "$N.update$LBatch($L)", serviceName, classMetadata.getClassName(), classMetadata.getCamelClassName() + "DTOList"))
+                .build();
+        classBuilder.addMethod(updateBatchMethod);
+
         // 添加删除方法
         MethodSpec deleteMethod = MethodSpec.methodBuilder("delete" + classMetadata.getClassName())
                 .addModifiers(Modifier.PUBLIC)
@@ -192,16 +353,125 @@ public class ControllerGenerator implements CodeGenerator {
                 .addJavadoc("@param id 主键ID\n")
                 .addJavadoc("@return 是否删除成功\n")
                 .addStatement("log.info(\"删除$L: id={}\", id)", classMetadata.getClassName())
-                .addStatement("boolean result = $L.delete$L(id)", 
-                        classMetadata.getCamelClassName() + "Service",
-                        classMetadata.getClassName())
-                .addStatement("return $T.ok(result)", responseType)
+                .addCode(respond(TypeName.BOOLEAN, "$N.delete$L(id)", serviceName, classMetadata.getClassName()))
                 .build();
         classBuilder.addMethod(deleteMethod);
 
+        if (async) {
+            classBuilder.methodSpecs.replaceAll(this::toAsyncMethod);
+        }
         return classBuilder.build();
     }
 
+    /**
+     * 生成调用服务并包装为 Response 的语句：同步时直接返回结果，异步时在异步服务返回的 CompletableFuture 上包装
+     *
+     * @param resultType 服务方法的返回类型
+     * @param callFormat 服务调用表达式的格式
+     * @param args       格式参数
+     * @return 方法体代码
+     */
+    private CodeBlock respond(TypeName resultType, String callFormat, Object... args) {
+        CodeBlock call = CodeBlock.of(callFormat, args);
+        if (async) {
+            return CodeBlock.builder()
+                    .addStatement("return $L.thenApply($T::ok)", call, Response.class)
+                    .build();
+        }
+        return CodeBlock.builder()
+                .addStatement("$T result = $L", resultType, call)
+                .addStatement("return $T.ok(result)", Response.class)
+                .build();
+    }
+
+    /**
+     * 将返回 Response 的方法的返回类型改为 CompletableFuture，方法体已通过 {@link #respond} 调用异步服务，
+     * 服务在 {@link AsyncExecutors#get()} 返回的执行器上执行，释放 Servlet 线程；直接写响应的方法（如流式导出）保持同步
+     */
+    private MethodSpec toAsyncMethod(MethodSpec method) {
+        if (!(method.returnType instanceof ParameterizedTypeName returnType)
+                || !returnType.rawType.equals(ClassName.get(Response.class))) {
+            return method;
+        }
+        return MethodSpec.methodBuilder(method.name)
+                .addModifiers(method.modifiers)
+                .addAnnotations(method.annotations)
+                .addParameters(method.parameters)
+                .addExceptions(method.exceptions)
+                .addJavadoc(method.javadoc)
+                .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), returnType))
+                .addCode(method.code)
+                .build();
+    }
+
+    /**
+     * 生成流式导出方法：默认输出 NDJSON（每行一个 JSON 对象），format=xlsx 时通过 office 模块输出 Excel，
+     * 数据通过数据库游标逐行写出响应，不在内存中保留整个结果集
+     */
+    private MethodSpec buildExportMethod(ClassMetadata classMetadata, ClassName dtoType, ClassName queryType) {
+        String serviceName = classMetadata.getCamelClassName() + "Service";
+        String exportName = "export" + classMetadata.getClassName() + "s";
+        ClassName responseType = ClassName.get("jakarta.servlet.http", "HttpServletResponse");
+        ClassName excelWriterType = ClassName.get("io.githhub.youngerier.office", "ExcelDocumentWriter");
+        ClassName easyExcelWriterType = ClassName.get("io.githhub.youngerier.office.export", "DefaultEasyExcelDocumentWriter");
+        ClassName quickBuilderType = ClassName.get("io.githhub.youngerier.office", "ExcelCellQuickBuilder");
+        ClassName sequenceWriterType = ClassName.get("com.fasterxml.jackson.databind", "SequenceWriter");
+
+        CodeBlock writeValue = CodeBlock.builder()
+                .add("{\n").indent()
+                .beginControlFlow("try")
+                .addStatement("sequenceWriter.write(dto)")
+                .nextControlFlow("catch ($T e)", IOException.class)
+                .addStatement("throw new $T(e)", UncheckedIOException.class)
+                .endControlFlow()
+                .unindent().add("}")
+                .build();
+
+        return MethodSpec.methodBuilder(exportName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                        .addMember("value", "$S", "/export")
+                        .build())
+                .addParameter(ParameterSpec.builder(queryType, "query")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestBody")).build())
+                        .build())
+                .addParameter(ParameterSpec.builder(String.class, "format")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestParam"))
+                                .addMember("value", "$S", "format")
+                                .addMember("defaultValue", "$S", "ndjson")
+                                .build())
+                        .build())
+                .addParameter(responseType, "response")
+                .addException(IOException.class)
+                .addJavadoc("流式导出$L\n", classMetadata.getClassName())
+                .addJavadoc("@param query    查询条件，分页参数会被忽略\n")
+                .addJavadoc("@param format   导出格式，ndjson 或 xlsx\n")
+                .addJavadoc("@param response HTTP 响应\n")
+                .addStatement("log.info(\"导出$L: format={}, query={}\", format, query)", classMetadata.getClassName())
+                .beginControlFlow("if ($S.equalsIgnoreCase(format))", "xlsx")
+                .addStatement("response.setContentType($S)", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                .addStatement("response.setHeader($S, $S)", "Content-Disposition",
+                        "attachment; filename=" + classMetadata.getCamelClassName() + "s.xlsx")
+                .addStatement("$T writer = $T.of(response.getOutputStream(), $T.forClass($T.class))",
+                        excelWriterType, easyExcelWriterType, quickBuilderType, dtoType)
+                .beginControlFlow("try")
+                .addStatement("$L.$L(query, writer::write)", serviceName, exportName)
+                .addStatement("writer.finish()")
+                .nextControlFlow("finally")
+                // finish 之后调用 abort 不做任何处理；导出失败时释放 workbook 及其临时文件
+                .addStatement("writer.abort()")
+                .endControlFlow()
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("response.setContentType($S)", "application/x-ndjson")
+                .addStatement("response.setCharacterEncoding($S)", "UTF-8")
+                .beginControlFlow("try ($T sequenceWriter = objectMapper.writer().withRootValueSeparator($S).writeValues(response.getOutputStream()))",
+                        sequenceWriterType, "\n")
+                .addStatement("$L.$L(query, dto -> $L)", serviceName, exportName, writeValue)
+                .endControlFlow()
+                .build();
+    }
+
     @Override
     public String getPackageName() {
         return packageStructure.getControllerPackage();
@@ -211,4 +481,9 @@ public class ControllerGenerator implements CodeGenerator {
     public String getClassName(ClassMetadata classMetadata) {
         return packageStructure.getControllerClassName();
     }
+
+    @Override
+    public GeneratedLayer getLayer() {
+        return GeneratedLayer.WEB;
+    }
 }
\ No newline at end of file
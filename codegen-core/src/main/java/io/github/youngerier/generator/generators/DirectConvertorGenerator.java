@@ -0,0 +1,144 @@
+package io.github.youngerier.generator.generators;
+
+import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.model.ClassMetadata;
+import io.github.youngerier.generator.model.PackageStructure;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 直接转换器生成器，生成逐字段复制的转换类，方法签名与 {@link MapstructGenerator} 生成的接口一致，
+ * 不需要 MapStruct 注解处理器，也没有反射与额外的对象分配
+ */
+@Slf4j
+public class DirectConvertorGenerator implements CodeGenerator {
+
+    private final PackageStructure packageLayout;
+
+    public DirectConvertorGenerator(PackageStructure packageLayout) {
+        this.packageLayout = packageLayout;
+    }
+
+    @Override
+    public TypeSpec generate(ClassMetadata pojoInfo) {
+        String entityName = pojoInfo.getClassName();
+        String camelName = pojoInfo.getCamelClassName();
+        ClassName entityType = ClassName.get(pojoInfo.getPackageName(), entityName);
+        ClassName dtoType = ClassName.get(packageLayout.getDtoPackage(), packageLayout.getDtoClassName());
+        ClassName requestType = ClassName.get(packageLayout.getRequestPackage(), packageLayout.getRequestClassName());
+        ClassName responseType = ClassName.get(packageLayout.getResponsePackage(), packageLayout.getResponseClassName());
+        ClassName convertorType = ClassName.get(packageLayout.getConvertorPackage(), getClassName(pojoInfo));
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(getClassName(pojoInfo))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+
+        if (pojoInfo.getClassComment() != null && !pojoInfo.getClassComment().isEmpty()) {
+            classBuilder.addJavadoc(pojoInfo.getClassComment() + "\n");
+        }
+        classBuilder.addJavadoc("对象转换器，逐字段复制\n");
+
+        classBuilder.addField(FieldSpec.builder(convertorType, "INSTANCE")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T()", convertorType)
+                .build());
+        classBuilder.addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+        Predicate<ClassMetadata.FieldInfo> allFields = field -> true;
+        Predicate<ClassMetadata.FieldInfo> requestFields = field -> !RequestGenerator.EXCLUDED_FIELDS.contains(field.getName());
+
+        classBuilder.addMethod(buildCopyMethod(pojoInfo, "toDto", entityType, camelName, dtoType, allFields));
+        classBuilder.addMethod(buildCopyMethod(pojoInfo, "toDto", requestType, camelName + "Request", dtoType, requestFields));
+        classBuilder.addMethod(buildCopyMethod(pojoInfo, "toEntity", dtoType, camelName + "DTO", entityType, allFields));
+        classBuilder.addMethod(buildCopyMethod(pojoInfo, "toEntity", requestType, camelName + "Request", entityType, requestFields));
+        classBuilder.addMethod(buildCopyMethod(pojoInfo, "toResponse", entityType, camelName, responseType, allFields));
+        classBuilder.addMethod(buildCopyMethod(pojoInfo, "toResponse", dtoType, camelName, responseType, allFields));
+        classBuilder.addMethod(buildListMethod("toDtoList", "toDto", entityType, camelName + "List", dtoType));
+        classBuilder.addMethod(buildListMethod("toEntityList", "toEntity", dtoType, camelName + "DTOList", entityType));
+        classBuilder.addMethod(buildListMethod("toResponseList", "toResponse", entityType, camelName + "List", responseType));
+
+        return classBuilder.build();
+    }
+
+    private MethodSpec buildCopyMethod(ClassMetadata pojoInfo, String methodName, ClassName sourceType, String sourceName,
+                                       ClassName targetType, Predicate<ClassMetadata.FieldInfo> fieldFilter) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(sourceType, sourceName)
+                .returns(targetType)
+                .beginControlFlow("if ($N == null)", sourceName)
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T target = new $T()", targetType, targetType);
+        for (ClassMetadata.FieldInfo field : pojoInfo.getFields()) {
+            if (fieldFilter.test(field)) {
+                methodBuilder.addStatement("target.$L($N.$L())", setterName(field), sourceName, getterName(field));
+            }
+        }
+        return methodBuilder.addStatement("return target").build();
+    }
+
+    private MethodSpec buildListMethod(String methodName, String elementMethodName, ClassName sourceType, String sourceName,
+                                       ClassName targetType) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), sourceType), sourceName)
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), targetType))
+                .beginControlFlow("if ($N == null)", sourceName)
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T<$T> result = new $T<>($N.size())", List.class, targetType, ArrayList.class, sourceName)
+                .beginControlFlow("for ($T item : $N)", sourceType, sourceName)
+                .addStatement("result.add($L(item))", elementMethodName)
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    /**
+     * 与 Lombok 一致的 getter 名称，boolean 基本类型使用 is 前缀
+     */
+    static String getterName(ClassMetadata.FieldInfo field) {
+        if (TypeName.BOOLEAN.equals(field.getType())) {
+            return isPrefixed(field.getName()) ? field.getName() : "is" + capitalize(field.getName());
+        }
+        return "get" + capitalize(field.getName());
+    }
+
+    /**
+     * 与 Lombok 一致的 setter 名称，isXxx 形式的 boolean 基本类型字段去掉 is 前缀
+     */
+    static String setterName(ClassMetadata.FieldInfo field) {
+        if (TypeName.BOOLEAN.equals(field.getType()) && isPrefixed(field.getName())) {
+            return "set" + field.getName().substring(2);
+        }
+        return "set" + capitalize(field.getName());
+    }
+
+    private static boolean isPrefixed(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageLayout.getConvertorPackage();
+    }
+
+    @Override
+    public String getClassName(ClassMetadata pojoInfo) {
+        return packageLayout.getConvertorClassName();
+    }
+}
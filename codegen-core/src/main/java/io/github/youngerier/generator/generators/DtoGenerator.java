@@ -1,6 +1,7 @@
 package io.github.youngerier.generator.generators;
 
 import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.GeneratedLayer;
 import io.github.youngerier.generator.model.PackageStructure;
 import io.github.youngerier.generator.model.ClassMetadata;
 import com.squareup.javapoet.ClassName;
@@ -69,4 +70,9 @@ public class DtoGenerator implements CodeGenerator {
     public String getClassName(ClassMetadata classMetadata) {
         return packageStructure.getDtoClassName();
     }
+
+    @Override
+    public GeneratedLayer getLayer() {
+        return GeneratedLayer.MODEL;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package io.github.youngerier.generator.generators;
+
+import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.GeneratedLayer;
+import io.github.youngerier.generator.model.PackageStructure;
+import io.github.youngerier.generator.model.ClassMetadata;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.TypeSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.lang.model.element.Modifier;
+
+/**
+ * 列表视图模型类生成器，只包含 {@code @GenModel(listFields = ...)} 声明的字段，
+ * 查询时只选择这些列并直接映射为该类型
+ */
+@Slf4j
+public class ListItemGenerator implements CodeGenerator {
+    private final PackageStructure packageStructure;
+
+    public ListItemGenerator(PackageStructure packageStructure) {
+        this.packageStructure = packageStructure;
+    }
+
+    @Override
+    public TypeSpec generate(ClassMetadata classMetadata) {
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(getClassName(classMetadata))
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("lombok", "Data"));
+
+        for (ClassMetadata.FieldInfo field : classMetadata.getListFieldInfos()) {
+            FieldSpec.Builder fieldBuilder = FieldSpec.builder(field.getType(), field.getName(), Modifier.PRIVATE);
+            if (field.getComment() != null && !field.getComment().isEmpty()) {
+                fieldBuilder.addJavadoc(field.getComment() + "\n\n");
+            }
+            classBuilder.addField(fieldBuilder.build());
+        }
+
+        if (classMetadata.getClassComment() != null && !classMetadata.getClassComment().isEmpty()) {
+            classBuilder.addJavadoc(classMetadata.getClassComment() + "\n");
+        }
+        classBuilder.addJavadoc("列表视图对象\n");
+
+        return classBuilder.build();
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageStructure.getResponsePackage();
+    }
+
+    @Override
+    public String getClassName(ClassMetadata classMetadata) {
+        return packageStructure.getListItemClassName();
+    }
+
+    @Override
+    public GeneratedLayer getLayer() {
+        return GeneratedLayer.MODEL;
+    }
+}
@@ -118,6 +118,14 @@ public class MapstructGenerator implements CodeGenerator {
                 .build();
         interfaceBuilder.addMethod(entityListToDtoListMethod);
 
+        // 添加DTO列表到实体列表的转换方法
+        MethodSpec dtoListToEntityListMethod = MethodSpec.methodBuilder("toEntityList")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .addParameter(listOfDto, lowerFirstChar(entityName) + "DTOList")
+                .returns(listOfEntity)
+                .build();
+        interfaceBuilder.addMethod(dtoListToEntityListMethod);
+
         // 添加实体列表到Response列表的转换方法
         MethodSpec entityListToResponseListMethod = MethodSpec.methodBuilder("toResponseList")
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -0,0 +1,56 @@
+package io.github.youngerier.generator.generators;
+
+/**
+ * 生成的 Query 对象中各查询操作符对应的属性命名规则，Query 与 Repository 生成器共用
+ */
+final class QueryFieldNames {
+
+    private QueryFieldNames() {
+    }
+
+    /**
+     * IN 查询的集合属性名，例如 userTypeList
+     */
+    static String inName(String fieldName) {
+        return fieldName + "List";
+    }
+
+    /**
+     * 前缀匹配属性名，例如 usernamePrefix
+     */
+    static String prefixName(String fieldName) {
+        return fieldName + "Prefix";
+    }
+
+    /**
+     * 范围查询下限属性名，例如 minGmtCreate
+     */
+    static String minName(String fieldName) {
+        return "min" + capitalize(fieldName);
+    }
+
+    /**
+     * 范围查询上限属性名，例如 maxGmtCreate
+     */
+    static String maxName(String fieldName) {
+        return "max" + capitalize(fieldName);
+    }
+
+    /**
+     * 属性的 getter 方法名
+     */
+    static String getter(String propertyName) {
+        return "get" + capitalize(propertyName);
+    }
+
+    /**
+     * 属性的 setter 方法名
+     */
+    static String setter(String propertyName) {
+        return "set" + capitalize(propertyName);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.youngerier.generator.generators;
 
 import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.GeneratedLayer;
+import io.github.youngerier.generator.annotation.QueryOperator;
 import io.github.youngerier.generator.model.PackageStructure;
 import io.github.youngerier.generator.model.ClassMetadata;
 import com.squareup.javapoet.ClassName;
@@ -14,6 +16,7 @@ import io.github.youngerier.support.page.AbstractPageQuery;
 import io.github.youngerier.support.enums.DefaultOrderField;
 
 import javax.lang.model.element.Modifier;
+import java.util.List;
 
 /**
  * Query模型类生成器
@@ -34,8 +37,11 @@ public class QueryGenerator implements CodeGenerator {
                 .superclass(ParameterizedTypeName.get(ClassName.get(AbstractPageQuery.class), ClassName.get(DefaultOrderField.class)))
                 .addAnnotation(ClassName.get("lombok", "Data"));
 
-        // 添加字段
+        // 添加等值查询字段
         for (ClassMetadata.FieldInfo field : classMetadata.getFields()) {
+            if (!field.supports(QueryOperator.EQ)) {
+                continue;
+            }
             // 创建字段类型
             TypeName fieldType = field.getType();
 
@@ -59,28 +65,29 @@ public class QueryGenerator implements CodeGenerator {
             classBuilder.addJavadoc("查询参数对象\n");
         }
 
-        // 添加时间范围查询字段
-        TypeName localDateTimeType = ClassName.get("java.time", "LocalDateTime");
-
-        FieldSpec minGmtCreate = FieldSpec.builder(localDateTimeType, "minGmtCreate", Modifier.PRIVATE)
-                .addJavadoc("最小创建时间\n")
-                .build();
-        classBuilder.addField(minGmtCreate);
-
-        FieldSpec maxGmtCreate = FieldSpec.builder(localDateTimeType, "maxGmtCreate", Modifier.PRIVATE)
-                .addJavadoc("最大创建时间\n")
-                .build();
-        classBuilder.addField(maxGmtCreate);
-
-        FieldSpec minGmtModified = FieldSpec.builder(localDateTimeType, "minGmtModified", Modifier.PRIVATE)
-                .addJavadoc("最小修改时间\n")
-                .build();
-        classBuilder.addField(minGmtModified);
-
-        FieldSpec maxGmtModified = FieldSpec.builder(localDateTimeType, "maxGmtModified", Modifier.PRIVATE)
-                .addJavadoc("最大修改时间\n")
-                .build();
-        classBuilder.addField(maxGmtModified);
+        // 添加集合、前缀匹配与范围查询字段
+        for (ClassMetadata.FieldInfo field : classMetadata.getFields()) {
+            String comment = field.getComment() != null && !field.getComment().isEmpty() ? field.getComment() : field.getName();
+            if (field.supports(QueryOperator.IN)) {
+                TypeName listType = ParameterizedTypeName.get(ClassName.get(List.class), field.getType().box());
+                classBuilder.addField(FieldSpec.builder(listType, QueryFieldNames.inName(field.getName()), Modifier.PRIVATE)
+                        .addJavadoc("$L集合\n", comment)
+                        .build());
+            }
+            if (field.supports(QueryOperator.LIKE_PREFIX)) {
+                classBuilder.addField(FieldSpec.builder(String.class, QueryFieldNames.prefixName(field.getName()), Modifier.PRIVATE)
+                        .addJavadoc("$L前缀\n", comment)
+                        .build());
+            }
+            if (field.supports(QueryOperator.RANGE)) {
+                classBuilder.addField(FieldSpec.builder(field.getType().box(), QueryFieldNames.minName(field.getName()), Modifier.PRIVATE)
+                        .addJavadoc("最小$L\n", comment)
+                        .build());
+                classBuilder.addField(FieldSpec.builder(field.getType().box(), QueryFieldNames.maxName(field.getName()), Modifier.PRIVATE)
+                        .addJavadoc("最大$L\n", comment)
+                        .build());
+            }
+        }
 
         return classBuilder.build();
     }
@@ -94,4 +101,9 @@ public class QueryGenerator implements CodeGenerator {
     public String getClassName(ClassMetadata classMetadata) {
         return packageStructure.getQueryClassName();
     }
+
+    @Override
+    public GeneratedLayer getLayer() {
+        return GeneratedLayer.MODEL;
+    }
 }
@@ -1,26 +1,47 @@
 package io.github.youngerier.generator.generators;
 
+import io.github.youngerier.support.enums.QueryType;
+import io.github.youngerier.support.page.IPagination;
+import io.github.youngerier.support.page.Pagination;
 import io.github.youngerier.support.page.QueryWrapperHelper;
 import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.annotation.QueryOperator;
 import io.github.youngerier.generator.model.PackageStructure;
 import io.github.youngerier.generator.model.ClassMetadata;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.query.QueryWrapper;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Repository实现类生成器 - 基于MyBatis Flex ServiceImpl
  */
 @Slf4j
 public class RepositoryGenerator implements CodeGenerator {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final ClassName DB_TYPE = ClassName.get("com.mybatisflex.core.row", "Db");
+
     private final PackageStructure packageLayout;
 
     public RepositoryGenerator(PackageStructure packageLayout) {
@@ -49,9 +70,28 @@ public class RepositoryGenerator implements CodeGenerator {
             classBuilder.addJavadoc("数据访问层实现类\n");
         }
 
+        classBuilder.addField(FieldSpec.builder(TypeName.INT, "BATCH_SIZE")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", DEFAULT_BATCH_SIZE)
+                .addJavadoc("批量写入时每批的行数\n")
+                .build());
+
         classBuilder.addMethod(buildQueryWrapperMethod(pojoInfo));
         classBuilder.addMethod(buildSelectListByQueryMethod(pojoInfo));
+        classBuilder.addMethod(buildSelectListByIdsMethod(pojoInfo));
         classBuilder.addMethod(buildPageMethod(pojoInfo));
+        classBuilder.addMethod(buildSeekMethod(pojoInfo));
+        classBuilder.addMethod(buildInsertBatchMethod(pojoInfo));
+        classBuilder.addMethod(buildUpdateBatchByIdMethod(pojoInfo));
+        classBuilder.addMethod(buildUpsertBatchMethod(pojoInfo));
+        if (pojoInfo.isStreamExport()) {
+            classBuilder.addMethod(buildForEachByQueryMethod(pojoInfo));
+        }
+        if (pojoInfo.hasListView()) {
+            classBuilder.addMethod(buildListItemQueryWrapperMethod(pojoInfo));
+            classBuilder.addMethod(buildSelectListItemsByQueryMethod(pojoInfo));
+            classBuilder.addMethod(buildPageMethod(pojoInfo, "pageListItems", getListItemType(), "buildListItemQueryWrapper"));
+        }
 
         return classBuilder.build();
     }
@@ -68,23 +108,188 @@ public class RepositoryGenerator implements CodeGenerator {
                 .build();
     }
 
-    private MethodSpec buildPageMethod(ClassMetadata pojoInfo) {
+    private MethodSpec buildSelectListByIdsMethod(ClassMetadata pojoInfo) {
         ClassName entityType = getEntityType(pojoInfo);
+        TypeName listOfLong = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(Long.class));
+
+        return MethodSpec.methodBuilder("selectListByIds")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), ClassName.get(Long.class)), "ids")
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), entityType))
+                .addJavadoc("根据主键批量查询，主键去重后按 {@link #BATCH_SIZE} 分批执行 IN 查询，避免 IN 列表过长\n")
+                .addJavadoc("@param ids 主键集合\n")
+                .addJavadoc("@return 实体列表，不保证与主键顺序一致\n")
+                .beginControlFlow("if (ids == null || ids.isEmpty())")
+                .addStatement("return $T.emptyList()", Collections.class)
+                .endControlFlow()
+                .addStatement("$T distinctIds = new $T<>(new $T<>(ids))", listOfLong, ArrayList.class, LinkedHashSet.class)
+                .addStatement("$T<$T> result = new $T<>(distinctIds.size())", List.class, entityType, ArrayList.class)
+                .beginControlFlow("for (int i = 0; i < distinctIds.size(); i += BATCH_SIZE)")
+                .addStatement("result.addAll(getMapper().selectListByIds(distinctIds.subList(i, $T.min(i + BATCH_SIZE, distinctIds.size()))))", Math.class)
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    private MethodSpec buildForEachByQueryMethod(ClassMetadata pojoInfo) {
+        ClassName entityType = getEntityType(pojoInfo);
+        ClassName cursorType = ClassName.get("org.apache.ibatis.cursor", "Cursor");
+
+        return MethodSpec.methodBuilder("forEachByQuery")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(getQueryType(pojoInfo), "query")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), WildcardTypeName.supertypeOf(entityType)), "consumer")
+                .addJavadoc("通过数据库游标逐行读取查询结果，内存占用与结果集大小无关，分页参数会被忽略\n")
+                .addJavadoc("<p>游标依赖打开的数据库连接，必须在事务内调用\n")
+                .addJavadoc("@param query    查询条件\n")
+                .addJavadoc("@param consumer 逐行处理函数\n")
+                .beginControlFlow("try ($T<$T> cursor = getMapper().selectCursorByQuery(buildQueryWrapper(query)))", cursorType, entityType)
+                .addStatement("cursor.forEach(consumer)")
+                .nextControlFlow("catch ($T e)", IOException.class)
+                .addStatement("throw new $T(e)", UncheckedIOException.class)
+                .endControlFlow()
+                .build();
+    }
+
+    private MethodSpec buildSelectListItemsByQueryMethod(ClassMetadata pojoInfo) {
+        ClassName listItemType = getListItemType();
+
+        return MethodSpec.methodBuilder("selectListItemsByQuery")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(getQueryType(pojoInfo), "query")
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), listItemType))
+                .addJavadoc("列表视图查询，只选择列表视图字段对应的列并直接映射为 {@link $T}\n", listItemType)
+                .addJavadoc("@param query 查询条件\n")
+                .addJavadoc("@return 列表视图对象列表\n")
+                .addStatement("return getMapper().selectListByQueryAs(buildListItemQueryWrapper(query), $T.class)", listItemType)
+                .build();
+    }
+
+    private MethodSpec buildListItemQueryWrapperMethod(ClassMetadata pojoInfo) {
+        ClassName tableRefs = getTableRefsType(pojoInfo);
+        String tableVarName = toCamelCase(pojoInfo.getClassName()) + "TableRefs";
+        String columns = pojoInfo.getListFieldInfos().stream()
+                .map(field -> tableVarName + "." + field.getName())
+                .collect(Collectors.joining(", "));
+
+        return MethodSpec.methodBuilder("buildListItemQueryWrapper")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(getQueryType(pojoInfo), "query")
+                .returns(QueryWrapper.class)
+                .addStatement("$T $L = $T.$L", tableRefs, tableVarName, tableRefs, toCamelCase(pojoInfo.getClassName()))
+                .addStatement("return buildQueryWrapper(query).select($L)", columns)
+                .build();
+    }
+
+    private MethodSpec buildPageMethod(ClassMetadata pojoInfo) {
+        return buildPageMethod(pojoInfo, "page", getEntityType(pojoInfo), null);
+    }
+
+    /**
+     * 生成分页查询方法
+     *
+     * @param pojoInfo      实体信息
+     * @param methodName    方法名
+     * @param recordType    记录类型
+     * @param wrapperMethod 投影查询的 QueryWrapper 构建方法名，为 null 时查询实体
+     * @return 分页查询方法
+     */
+    private MethodSpec buildPageMethod(ClassMetadata pojoInfo, String methodName, ClassName recordType, String wrapperMethod) {
         ClassName queryType = getQueryType(pojoInfo);
+        ClassName pageType = ClassName.get(Page.class);
+        boolean projection = wrapperMethod != null;
+        CodeBlock selectList = projection
+                ? CodeBlock.of("getMapper().selectListByQueryAs(queryWrapper, $T.class)", recordType)
+                : CodeBlock.of("getMapper().selectListByQuery(queryWrapper)");
+        CodeBlock paginate = projection
+                ? CodeBlock.of("getMapper().paginateAs(page, queryWrapper, $T.class)", recordType)
+                : CodeBlock.of("getMapper().paginate(page, queryWrapper)");
 
-        return MethodSpec.methodBuilder("page")
+        return MethodSpec.methodBuilder(methodName)
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(queryType, "query")
-                .returns(ParameterizedTypeName.get(ClassName.get(Page.class), entityType))
-                .addStatement("$T<$T> page = new $T<>(query.getQueryPage(), query.getQuerySize())", 
-                    ClassName.get(Page.class), entityType, ClassName.get(Page.class))
-                .addStatement("return getMapper().paginate(page, buildQueryWrapper(query))")
+                .returns(ParameterizedTypeName.get(pageType, recordType))
+                .addJavadoc(projection ? "列表视图分页查询，只选择列表视图字段对应的列，" : "分页查询，")
+                .addJavadoc("根据查询类型决定是否执行 COUNT 查询与记录查询\n")
+                .addJavadoc("<ul>\n")
+                .addJavadoc("<li>{@link $T#COUNT_TOTAL}：只统计总数，不查询记录</li>\n", QueryType.class)
+                .addJavadoc("<li>{@link $T#QUERY_RECORDS}：只查询当前页记录，总数为 {@link $T#UNKNOWN_TOTAL}</li>\n", QueryType.class, IPagination.class)
+                .addJavadoc("<li>{@link $T#QUERY_BOTH}：同时查询总数与记录</li>\n", QueryType.class)
+                .addJavadoc("</ul>\n")
+                .addJavadoc("@param query 查询条件\n")
+                .addJavadoc("@return 分页结果\n")
+                .addStatement("$T<$T> page = new $T<>(query.getQueryPage(), query.getQuerySize())", pageType, recordType, pageType)
+                .addStatement("$T queryWrapper = $L(query)", QueryWrapper.class, projection ? wrapperMethod : "buildQueryWrapper")
+                .beginControlFlow("if (query.getQueryType() == $T.COUNT_TOTAL)", QueryType.class)
+                .addStatement("page.setRecords($T.emptyList())", Collections.class)
+                .addStatement("page.setTotalRow(getMapper().selectCountByQuery(queryWrapper))")
+                .addStatement("return page")
+                .endControlFlow()
+                .beginControlFlow("if (query.getQueryType() == $T.QUERY_RECORDS)", QueryType.class)
+                .addStatement("queryWrapper.limit($T.calculateOffset(query.getQueryPage(), query.getQuerySize()), query.getQuerySize())", Pagination.class)
+                .addStatement("page.setRecords($L)", selectList)
+                .addStatement("page.setTotalRow($T.UNKNOWN_TOTAL)", IPagination.class)
+                .addStatement("return page")
+                .endControlFlow()
+                .addStatement("return $L", paginate)
+                .build();
+    }
+
+    private MethodSpec buildInsertBatchMethod(ClassMetadata pojoInfo) {
+        ClassName entityType = getEntityType(pojoInfo);
+
+        return MethodSpec.methodBuilder("insertBatch")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), entityType), "entities")
+                .returns(TypeName.INT)
+                .addJavadoc("批量插入，按 {@link #BATCH_SIZE} 分批生成多行 INSERT 语句\n")
+                .addJavadoc("@param entities 实体列表\n")
+                .addJavadoc("@return 插入的行数\n")
+                .beginControlFlow("if (entities == null || entities.isEmpty())")
+                .addStatement("return 0")
+                .endControlFlow()
+                .addStatement("return getMapper().insertBatch(entities, BATCH_SIZE)")
+                .build();
+    }
+
+    private MethodSpec buildUpdateBatchByIdMethod(ClassMetadata pojoInfo) {
+        return buildExecuteBatchMethod(pojoInfo, "updateBatchById", "mapper.update(entity)",
+                "批量根据主键更新，使用 JDBC 批处理按 {@link #BATCH_SIZE} 分批提交，忽略 null 字段\n");
+    }
+
+    private MethodSpec buildUpsertBatchMethod(ClassMetadata pojoInfo) {
+        return buildExecuteBatchMethod(pojoInfo, "upsertBatch", "mapper.insertOrUpdate(entity, true)",
+                "批量插入或更新，主键为空时插入，否则根据主键更新，使用 JDBC 批处理按 {@link #BATCH_SIZE} 分批提交\n");
+    }
+
+    private MethodSpec buildExecuteBatchMethod(ClassMetadata pojoInfo, String methodName, String statement, String javadoc) {
+        ClassName entityType = getEntityType(pojoInfo);
+        ClassName mapperType = ClassName.get(packageLayout.getMapperPackage(), packageLayout.getMapperClassName());
+
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), entityType), "entities")
+                .returns(TypeName.INT)
+                .addJavadoc(javadoc)
+                .addJavadoc("@param entities 实体集合\n")
+                .addJavadoc("@return 影响的行数，驱动未返回行数（{@link $T#SUCCESS_NO_INFO}）的语句按 1 行计，\n", Statement.class)
+                .addJavadoc("开启 rewriteBatchedStatements 或使用 BATCH 执行器时通常如此，此时结果为成功执行的语句数\n")
+                .beginControlFlow("if (entities == null || entities.isEmpty())")
+                .addStatement("return 0")
+                .endControlFlow()
+                .addStatement("int[] counts = $T.executeBatch(entities, BATCH_SIZE, $T.class, (mapper, entity) -> $L)",
+                        DB_TYPE, mapperType, statement)
+                .addStatement("int result = 0")
+                .beginControlFlow("for (int count : counts)")
+                .addStatement("result += count == $T.SUCCESS_NO_INFO ? 1 : Math.max(count, 0)", Statement.class)
+                .endControlFlow()
+                .addStatement("return result")
                 .build();
     }
 
     private MethodSpec buildQueryWrapperMethod(ClassMetadata pojoInfo) {
         ClassName queryType = getQueryType(pojoInfo);
-        ClassName tableRefs = ClassName.get(pojoInfo.getPackageName() + ".table", pojoInfo.getClassName() + "TableRefs");
+        ClassName tableRefs = getTableRefsType(pojoInfo);
         String tableVarName = toCamelCase(pojoInfo.getClassName()) + "TableRefs";
         String staticTableFieldName = toCamelCase(pojoInfo.getClassName());
 
@@ -99,32 +304,97 @@ public class RepositoryGenerator implements CodeGenerator {
         queryWrapperBuilder.add("return $T.withOrder(query)\n", QueryWrapperHelper.class);
         queryWrapperBuilder.indent();
         queryWrapperBuilder.add(".from($L)\n", tableVarName);
+        addConditions(queryWrapperBuilder, pojoInfo, tableVarName, false);
+        queryWrapperBuilder.add(";\n");
+        queryWrapperBuilder.unindent();
+
+        methodBuilder.addCode(queryWrapperBuilder.build());
+        return methodBuilder.build();
+    }
 
-        // Add conditional where clauses for each field
-        boolean firstField = true;
-        for (ClassMetadata.FieldInfo field : pojoInfo.getFields()) {
+    private MethodSpec buildSeekMethod(ClassMetadata pojoInfo) {
+        ClassName entityType = getEntityType(pojoInfo);
+        ClassName queryType = getQueryType(pojoInfo);
+        ClassName tableRefs = getTableRefsType(pojoInfo);
+        String tableVarName = toCamelCase(pojoInfo.getClassName()) + "TableRefs";
+
+        CodeBlock.Builder queryWrapperBuilder = CodeBlock.builder();
+        queryWrapperBuilder.add("$T queryWrapper = $T.create()\n", QueryWrapper.class, QueryWrapper.class);
+        queryWrapperBuilder.indent();
+        queryWrapperBuilder.add(".from($L)\n", tableVarName);
+        queryWrapperBuilder.add(".where($L.id.gt(lastId))\n", tableVarName);
+        addConditions(queryWrapperBuilder, pojoInfo, tableVarName, true);
+        queryWrapperBuilder.add("\n.orderBy($L.id.asc())\n", tableVarName);
+        queryWrapperBuilder.add(".limit(limit);\n");
+        queryWrapperBuilder.unindent();
+
+        return MethodSpec.methodBuilder("seek")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(queryType, "query")
+                .addParameter(Long.class, "lastId")
+                .addParameter(TypeName.INT, "limit")
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), entityType))
+                .addJavadoc("游标分页查询，按主键升序返回主键大于 lastId 的记录，不执行 COUNT 查询\n")
+                .addJavadoc("@param query  查询条件，分页与排序参数会被忽略\n")
+                .addJavadoc("@param lastId 上一页最后一条记录的主键，为 null 时查询第一页\n")
+                .addJavadoc("@param limit  查询条数\n")
+                .addJavadoc("@return 实体列表\n")
+                .addStatement("$T $L = $T.$L", tableRefs, tableVarName, tableRefs, toCamelCase(pojoInfo.getClassName()))
+                .addCode(queryWrapperBuilder.build())
+                .addStatement("return getMapper().selectListByQuery(queryWrapper)")
+                .build();
+    }
+
+    /**
+     * 按索引顺序添加查询条件，每个字段按等值、集合、前缀匹配、范围的顺序生成谓词，
+     * 值为 null 的条件由 MyBatis-Flex 自动忽略，最后一个条件后不换行
+     *
+     * @param builder      代码构建器
+     * @param pojoInfo     实体信息
+     * @param tableVarName TableRefs 变量名
+     * @param whereStarted 是否已经添加过 where 条件
+     */
+    private void addConditions(CodeBlock.Builder builder, ClassMetadata pojoInfo, String tableVarName, boolean whereStarted) {
+        List<CodeBlock> predicates = new ArrayList<>();
+        for (ClassMetadata.FieldInfo field : pojoInfo.getQueryFieldsInIndexOrder()) {
             String fieldName = field.getName();
-            String getterName = "get" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
-            // 为每个字段添加条件查询
-            if (firstField) {
-                queryWrapperBuilder.add(".where($L.$L.eq(query.$L()))\n",
-                        tableVarName, fieldName, getterName);
-                firstField = false;
-            } else {
-                queryWrapperBuilder.add(".and($L.$L.eq(query.$L()))\n",
-                        tableVarName, fieldName, getterName);
+            for (QueryOperator operator : field.getQueryOperators()) {
+                switch (operator) {
+                    case EQ -> predicates.add(CodeBlock.of("$L.$L.eq(query.$L())",
+                            tableVarName, fieldName, QueryFieldNames.getter(fieldName)));
+                    case IN -> predicates.add(CodeBlock.of("$L.$L.in(query.$L())",
+                            tableVarName, fieldName, QueryFieldNames.getter(QueryFieldNames.inName(fieldName))));
+                    case LIKE_PREFIX -> predicates.add(CodeBlock.of("$L.$L.likeLeft(query.$L())",
+                            tableVarName, fieldName, QueryFieldNames.getter(QueryFieldNames.prefixName(fieldName))));
+                    case RANGE -> {
+                        predicates.add(CodeBlock.of("$L.$L.ge(query.$L())",
+                                tableVarName, fieldName, QueryFieldNames.getter(QueryFieldNames.minName(fieldName))));
+                        predicates.add(CodeBlock.of("$L.$L.le(query.$L())",
+                                tableVarName, fieldName, QueryFieldNames.getter(QueryFieldNames.maxName(fieldName))));
+                    }
+                    default -> log.warn("不支持的查询操作符: {}", operator);
+                }
             }
         }
 
-        // Add time range conditions
-        queryWrapperBuilder.add(".and($L.gmtCreate.ge(query.getMinGmtCreate()))\n", tableVarName);
-        queryWrapperBuilder.add(".and($L.gmtCreate.le(query.getMaxGmtCreate()))\n", tableVarName);
-        queryWrapperBuilder.add(".and($L.gmtModified.ge(query.getMinGmtModified()))\n", tableVarName);
-        queryWrapperBuilder.add(".and($L.gmtModified.le(query.getMaxGmtModified()));\n", tableVarName);
-        queryWrapperBuilder.unindent();
+        boolean firstPredicate = !whereStarted;
+        for (int i = 0; i < predicates.size(); i++) {
+            builder.add(firstPredicate ? ".where($L)" : ".and($L)", predicates.get(i));
+            firstPredicate = false;
+            if (i < predicates.size() - 1) {
+                builder.add("\n");
+            }
+        }
+    }
 
-        methodBuilder.addCode(queryWrapperBuilder.build());
-        return methodBuilder.build();
+    /**
+     * 获取 APT 生成的 TableRefs 类型
+     *
+     * @param pojoInfo 实体信息
+     * @return TableRefs 类型
+     */
+    private ClassName getTableRefsType(ClassMetadata pojoInfo) {
+        return ClassName.get(pojoInfo.getPackageName() + ".table", pojoInfo.getClassName() + "TableRefs");
     }
 
     @Override
@@ -147,6 +417,15 @@ public class RepositoryGenerator implements CodeGenerator {
         return ClassName.get(pojoInfo.getPackageName(), pojoInfo.getClassName());
     }
 
+    /**
+     * 获取列表视图类型
+     *
+     * @return 列表视图类型
+     */
+    private ClassName getListItemType() {
+        return ClassName.get(packageLayout.getResponsePackage(), packageLayout.getListItemClassName());
+    }
+
     /**
      * 获取查询类型
      *
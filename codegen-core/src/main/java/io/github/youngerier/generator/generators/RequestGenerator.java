@@ -1,6 +1,7 @@
 package io.github.youngerier.generator.generators;
 
 import io.github.youngerier.generator.CodeGenerator;
+import io.github.youngerier.generator.GeneratedLayer;
 import io.github.youngerier.generator.model.PackageStructure;
 import io.github.youngerier.generator.model.ClassMetadata;
 import com.squareup.javapoet.ClassName;
@@ -26,7 +27,7 @@ public class RequestGenerator implements CodeGenerator {
     }
 
     // 通常不需要包含在请求对象中的字段名
-    private static final Set<String> EXCLUDED_FIELDS = new HashSet<>(Arrays.asList(
+    static final Set<String> EXCLUDED_FIELDS = new HashSet<>(Arrays.asList(
             "id", "gmtCreate", "gmtModified", "createTime", "updateTime", "createdAt", "updatedAt"
     ));
 
@@ -79,4 +80,9 @@ public class RequestGenerator implements CodeGenerator {
     public String getClassName(ClassMetadata classMetadata) {
         return packageStructure.getRequestClassName();
     }
+
+    @Override
+    public GeneratedLayer getLayer() {
+        return GeneratedLayer.MODEL;
+    }
 }
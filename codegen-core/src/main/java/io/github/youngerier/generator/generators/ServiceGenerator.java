@@ -1,5 +1,6 @@
 package io.github.youngerier.generator.generators;
 
+import io.github.youngerier.support.page.CursorPagination;
 import io.github.youngerier.support.page.Pagination;
 import io.github.youngerier.generator.CodeGenerator;
 import io.github.youngerier.generator.model.PackageStructure;
@@ -9,10 +10,14 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.lang.model.element.Modifier;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Service接口生成器
@@ -66,6 +71,17 @@ public class ServiceGenerator implements CodeGenerator {
                 .build();
         interfaceBuilder.addMethod(getByIdMethod);
 
+        // 添加根据ID批量查询方法
+        MethodSpec getByIdsMethod = MethodSpec.methodBuilder("get" + classMetadata.getClassName() + "ByIds")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(Long.class), dtoType))
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), ClassName.get(Long.class)), "ids")
+                .addJavadoc("根据ID批量查询$L，替代循环调用 get$LById\n", classMetadata.getClassName(), classMetadata.getClassName())
+                .addJavadoc("@param ids 主键ID集合\n")
+                .addJavadoc("@return 主键ID到$L对象的映射，不存在的ID不包含在结果中\n", classMetadata.getClassName())
+                .build();
+        interfaceBuilder.addMethod(getByIdsMethod);
+
         // 添加查询所有对象方法
         MethodSpec getAllMethod = MethodSpec.methodBuilder("query" + classMetadata.getClassName() + "s")
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -86,21 +102,112 @@ public class ServiceGenerator implements CodeGenerator {
                 .build();
         interfaceBuilder.addMethod(pageQueryMethod);
  
+        // 添加游标分页查询方法
+        MethodSpec seekQueryMethod = MethodSpec.methodBuilder("seekQuery" + classMetadata.getClassName() + "s")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(ParameterizedTypeName.get(ClassName.get(CursorPagination.class), dtoType))
+                .addParameter(ClassName.get(packageStructure.getRequestPackage(), packageStructure.getQueryClassName()), "query")
+                .addParameter(Long.class, "lastId")
+                .addJavadoc("游标分页查询$L，按主键升序翻页\n", classMetadata.getClassName())
+                .addJavadoc("@param query  查询条件\n")
+                .addJavadoc("@param lastId 上一页返回的游标，为 null 时查询第一页\n")
+                .addJavadoc("@return $L游标分页对象\n", classMetadata.getClassName())
+                .build();
+        interfaceBuilder.addMethod(seekQueryMethod);
+
+        // 添加流式导出方法
+        if (classMetadata.isStreamExport()) {
+            MethodSpec exportMethod = MethodSpec.methodBuilder("export" + classMetadata.getClassName() + "s")
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .addParameter(ClassName.get(packageStructure.getRequestPackage(), packageStructure.getQueryClassName()), "query")
+                    .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), WildcardTypeName.supertypeOf(dtoType)), "consumer")
+                    .addJavadoc("流式导出$L，逐行回调查询结果，不在内存中保留整个结果集\n", classMetadata.getClassName())
+                    .addJavadoc("@param query    查询条件，分页参数会被忽略\n")
+                    .addJavadoc("@param consumer 逐行处理函数\n")
+                    .build();
+            interfaceBuilder.addMethod(exportMethod);
+        }
+
+        // 添加列表视图查询方法，只查询列表视图字段
+        if (classMetadata.hasListView()) {
+            ClassName listItemType = ClassName.get(packageStructure.getResponsePackage(), packageStructure.getListItemClassName());
+            MethodSpec queryListItemsMethod = MethodSpec.methodBuilder("query" + classMetadata.getClassName() + "ListItems")
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(ParameterizedTypeName.get(listType, listItemType))
+                    .addParameter(ClassName.get(packageStructure.getRequestPackage(), packageStructure.getQueryClassName()), "query")
+                    .addJavadoc("查询$L列表视图，只查询列表视图字段\n", classMetadata.getClassName())
+                    .addJavadoc("@param query 查询条件\n")
+                    .addJavadoc("@return $L列表视图对象列表\n", classMetadata.getClassName())
+                    .build();
+            interfaceBuilder.addMethod(queryListItemsMethod);
+
+            MethodSpec pageQueryListItemsMethod = MethodSpec.methodBuilder("pageQuery" + classMetadata.getClassName() + "ListItems")
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(ParameterizedTypeName.get(ClassName.get(Pagination.class), listItemType))
+                    .addParameter(ClassName.get(packageStructure.getRequestPackage(), packageStructure.getQueryClassName()), "query")
+                    .addJavadoc("分页查询$L列表视图，只查询列表视图字段\n", classMetadata.getClassName())
+                    .addJavadoc("@param query 查询条件\n")
+                    .addJavadoc("@return $L列表视图分页对象\n", classMetadata.getClassName())
+                    .build();
+            interfaceBuilder.addMethod(pageQueryListItemsMethod);
+        }
+
          // 添加更新方法
         MethodSpec updateMethod = MethodSpec.methodBuilder("update" + classMetadata.getClassName())
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
                 .returns(dtoType)
                 .addParameter(TypeName.LONG, "id")
                 .addParameter(dtoType, classMetadata.getCamelClassName() + "DTO")
-                .addJavadoc("更新$L\n", classMetadata.getClassName())
+                .addJavadoc("更新$L，只写入不为 null 的字段，单条 UPDATE 语句完成，不预先查询记录\n", classMetadata.getClassName())
+                .addJavadoc("<p>实体声明了乐观锁版本字段（{@code @Column(version = true)}）时必须传入版本号，版本不一致将不会更新\n")
                 .addJavadoc("@param id 主键ID\n")
                 .addJavadoc("@param $L $L数据传输对象\n",
                         classMetadata.getCamelClassName() + "DTO",
                         classMetadata.getClassName())
-                .addJavadoc("@return 更新后的$L对象\n", classMetadata.getClassName())
+                .addJavadoc("@return 回显的请求$L对象（不重新读取数据库，未传入的字段为 null），记录不存在或版本不一致时返回 null\n", classMetadata.getClassName())
                 .build();
         interfaceBuilder.addMethod(updateMethod);
 
+        // 添加部分更新方法
+        MethodSpec patchMethod = MethodSpec.methodBuilder("patch" + classMetadata.getClassName())
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(TypeName.BOOLEAN)
+                .addParameter(TypeName.LONG, "id")
+                .addParameter(dtoType, classMetadata.getCamelClassName() + "DTO")
+                .addJavadoc("部分更新$L，只更新不为 null 的字段，不预先查询记录\n", classMetadata.getClassName())
+                .addJavadoc("<p>实体声明了乐观锁版本字段（{@code @Column(version = true)}）时必须传入版本号，版本不一致将不会更新\n")
+                .addJavadoc("@param id 主键ID\n")
+                .addJavadoc("@param $L 需要更新的字段\n", classMetadata.getCamelClassName() + "DTO")
+                .addJavadoc("@return 是否更新成功，记录不存在或版本不一致时返回 false\n")
+                .build();
+        interfaceBuilder.addMethod(patchMethod);
+
+        // 添加批量创建方法
+        MethodSpec createBatchMethod = MethodSpec.methodBuilder("create" + classMetadata.getClassName() + "Batch")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(TypeName.INT)
+                .addParameter(listOfDto, classMetadata.getCamelClassName() + "DTOList")
+                .addJavadoc("批量创建$L\n", classMetadata.getClassName())
+                .addJavadoc("@param $L $L数据传输对象列表\n",
+                        classMetadata.getCamelClassName() + "DTOList",
+                        classMetadata.getClassName())
+                .addJavadoc("@return 创建的记录数\n")
+                .build();
+        interfaceBuilder.addMethod(createBatchMethod);
+
+        // 添加批量更新方法
+        MethodSpec updateBatchMethod = MethodSpec.methodBuilder("update" + classMetadata.getClassName() + "Batch")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(TypeName.INT)
+                .addParameter(listOfDto, classMetadata.getCamelClassName() + "DTOList")
+                .addJavadoc("根据主键批量更新$L，忽略为 null 的字段\n", classMetadata.getClassName())
+                .addJavadoc("@param $L $L数据传输对象列表\n",
+                        classMetadata.getCamelClassName() + "DTOList",
+                        classMetadata.getClassName())
+                .addJavadoc("@return 更新的记录数\n")
+                .build();
+        interfaceBuilder.addMethod(updateBatchMethod);
+
         // 添加删除方法
         MethodSpec deleteMethod = MethodSpec.methodBuilder("delete" + classMetadata.getClassName())
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
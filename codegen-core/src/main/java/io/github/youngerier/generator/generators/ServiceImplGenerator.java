@@ -1,5 +1,7 @@
 package io.github.youngerier.generator.generators;
 
+import io.github.youngerier.support.enums.QueryType;
+import io.github.youngerier.support.page.CursorPagination;
 import io.github.youngerier.support.page.Pagination;
 import io.github.youngerier.generator.CodeGenerator;
 import io.github.youngerier.generator.model.PackageStructure;
@@ -8,8 +10,11 @@ import com.squareup.javapoet.*;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.lang.model.element.Modifier;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Service实现类生成器
@@ -98,6 +103,21 @@ public class ServiceImplGenerator implements CodeGenerator {
         classBuilder.addMethod(getByIdMethod);
 
 
+        // 添加getXxxByIds方法
+        MethodSpec getByIdsMethod = MethodSpec.methodBuilder("get" + entityName + "ByIds")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), ClassName.get(Long.class)), "ids")
+                .returns(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(Long.class), dtoType))
+                .addStatement("$T<$T> entities = $N.selectListByIds(ids)", List.class, entityType, repositoryFieldName)
+                .addStatement("$T<$T, $T> result = new $T<>(entities.size() * 4 / 3 + 1)", Map.class, Long.class, dtoType, LinkedHashMap.class)
+                .beginControlFlow("for ($T entity : entities)", entityType)
+                .addStatement("result.put(entity.getId(), $N.toDto(entity))", mapperFieldName)
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+        classBuilder.addMethod(getByIdsMethod);
+
         // 添加queryXxxs方法
         ParameterizedTypeName listOfDto = ParameterizedTypeName.get(
                 ClassName.get(List.class), dtoType);
@@ -106,7 +126,7 @@ public class ServiceImplGenerator implements CodeGenerator {
                 .addAnnotation(Override.class)
                 .addParameter(ClassName.get(packageLayout.getRequestPackage(), pojoInfo.getClassName() + "Query"), "query")
                 .returns(listOfDto)
-                .addStatement("return $N.selectListByQuery(query).stream().map($N::toDto).collect($T.toList())", repositoryFieldName, mapperFieldName, Collectors.class)
+                .addStatement("return $N.toDtoList($N.selectListByQuery(query))", mapperFieldName, repositoryFieldName)
                 .build();
         classBuilder.addMethod(queryMethod);
 
@@ -117,28 +137,125 @@ public class ServiceImplGenerator implements CodeGenerator {
                 .addAnnotation(Override.class)
                 .addParameter(ClassName.get(packageLayout.getRequestPackage(), pojoInfo.getClassName() + "Query"), "query")
                 .returns(ParameterizedTypeName.get(ClassName.get(Pagination.class), dtoType))
-                .addStatement("$T<$T> page = $N.page(query).map($N::toDto)", pageType, dtoType, repositoryFieldName, mapperFieldName)
-                .addStatement("return $T.of(page.getRecords(), query, page.getTotalRow())", Pagination.class)
+                .addStatement("$T<$T> page = $N.page(query)", pageType, entityType, repositoryFieldName)
+                .addStatement("$T records = $N.toDtoList(page.getRecords())", listOfDto, mapperFieldName)
+                // 只查询记录时未执行 COUNT，总数未知
+                .beginControlFlow("if (query.getQueryType() == $T.QUERY_RECORDS)", QueryType.class)
+                .addStatement("return $T.ofUnknownTotal(records, query)", Pagination.class)
+                .endControlFlow()
+                .addStatement("return $T.of(records, query, page.getTotalRow())", Pagination.class)
                 .build();
         classBuilder.addMethod(pageQueryMethod);
 
-        // 添加updateXxx方法
-        MethodSpec updateMethod = MethodSpec.methodBuilder("update" + entityName)
+        // 添加seekQueryXxxs方法，多查询一条用于判断是否还有下一页
+        MethodSpec seekQueryMethod = MethodSpec.methodBuilder("seekQuery" + entityName + "s")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(ClassName.get(packageLayout.getRequestPackage(), pojoInfo.getClassName() + "Query"), "query")
+                .addParameter(Long.class, "lastId")
+                .returns(ParameterizedTypeName.get(ClassName.get(CursorPagination.class), dtoType))
+                .addStatement("$T<$T> entities = $N.seek(query, lastId, query.getQuerySize() + 1)", List.class, entityType, repositoryFieldName)
+                .addStatement("return $T.of(entities, query.getQuerySize(), $T::getId).map($N::toDto)", CursorPagination.class, entityType, mapperFieldName)
+                .build();
+        classBuilder.addMethod(seekQueryMethod);
+
+        // 添加流式导出方法，游标需要在只读事务内读取
+        if (pojoInfo.isStreamExport()) {
+            MethodSpec exportMethod = MethodSpec.methodBuilder("export" + entityName + "s")
+                    .addModifiers(Modifier.PUBLIC)
+                    .addAnnotation(Override.class)
+                    .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                            .addMember("readOnly", "true")
+                            .build())
+                    .addParameter(ClassName.get(packageLayout.getRequestPackage(), pojoInfo.getClassName() + "Query"), "query")
+                    .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), WildcardTypeName.supertypeOf(dtoType)), "consumer")
+                    .addStatement("$N.forEachByQuery(query, entity -> consumer.accept($N.toDto(entity)))", repositoryFieldName, mapperFieldName)
+                    .build();
+            classBuilder.addMethod(exportMethod);
+        }
+
+        // 添加列表视图查询方法，投影查询直接映射为列表视图对象，无需转换
+        if (pojoInfo.hasListView()) {
+            ClassName listItemType = ClassName.get(packageLayout.getResponsePackage(), packageLayout.getListItemClassName());
+            MethodSpec queryListItemsMethod = MethodSpec.methodBuilder("query" + entityName + "ListItems")
+                    .addModifiers(Modifier.PUBLIC)
+                    .addAnnotation(Override.class)
+                    .addParameter(ClassName.get(packageLayout.getRequestPackage(), pojoInfo.getClassName() + "Query"), "query")
+                    .returns(ParameterizedTypeName.get(ClassName.get(List.class), listItemType))
+                    .addStatement("return $N.selectListItemsByQuery(query)", repositoryFieldName)
+                    .build();
+            classBuilder.addMethod(queryListItemsMethod);
+
+            MethodSpec pageQueryListItemsMethod = MethodSpec.methodBuilder("pageQuery" + entityName + "ListItems")
+                    .addModifiers(Modifier.PUBLIC)
+                    .addAnnotation(Override.class)
+                    .addParameter(ClassName.get(packageLayout.getRequestPackage(), pojoInfo.getClassName() + "Query"), "query")
+                    .returns(ParameterizedTypeName.get(ClassName.get(Pagination.class), listItemType))
+                    .addStatement("$T<$T> page = $N.pageListItems(query)", pageType, listItemType, repositoryFieldName)
+                    .beginControlFlow("if (query.getQueryType() == $T.QUERY_RECORDS)", QueryType.class)
+                    .addStatement("return $T.ofUnknownTotal(page.getRecords(), query)", Pagination.class)
+                    .endControlFlow()
+                    .addStatement("return $T.of(page.getRecords(), query, page.getTotalRow())", Pagination.class)
+                    .build();
+            classBuilder.addMethod(pageQueryListItemsMethod);
+        }
+
+        // 添加updateXxx方法，只更新非 null 字段，单条 UPDATE 语句完成，不预先查询也不重新读取
+        String dtoName = pojoInfo.getCamelClassName() + "DTO";
+        MethodSpec.Builder updateMethod = MethodSpec.methodBuilder("update" + entityName)
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(Override.class)
                 .addParameter(TypeName.LONG, "id")
-                .addParameter(dtoType, pojoInfo.getCamelClassName() + "DTO")
-                .returns(dtoType)
-                .addStatement("$T existingEntity = $N.getById(id)", entityType, repositoryFieldName)
-                .beginControlFlow("if (existingEntity == null)")
+                .addParameter(dtoType, dtoName)
+                .returns(dtoType);
+        addVersionCheck(updateMethod, pojoInfo, dtoName);
+        updateMethod.addStatement("$T updatedEntity = $N.toEntity($N)", entityType, mapperFieldName, dtoName)
+                .addStatement("updatedEntity.setId(id)") // Ensure ID is set for update
+                // 更新影响行数为 0 即表示记录不存在（或版本不一致）
+                .beginControlFlow("if (!$N.updateById(updatedEntity))", repositoryFieldName)
                 .addStatement("return null")
                 .endControlFlow()
-                .addStatement("$T updatedEntity = $N.toEntity($N)", entityType, mapperFieldName, pojoInfo.getCamelClassName() + "DTO")
-                .addStatement("updatedEntity.setId(id)") // Ensure ID is set for update
-                .addStatement("$N.updateById(updatedEntity)", repositoryFieldName)
-                .addStatement("return $N.toDto(updatedEntity)", mapperFieldName)
+                .addStatement("return $N.toDto(updatedEntity)", mapperFieldName);
+        classBuilder.addMethod(updateMethod.build());
+
+        // 添加patchXxx方法，只更新非 null 字段，单条 UPDATE 语句完成
+        MethodSpec.Builder patchMethod = MethodSpec.methodBuilder("patch" + entityName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(TypeName.LONG, "id")
+                .addParameter(dtoType, dtoName)
+                .returns(TypeName.BOOLEAN);
+        addVersionCheck(patchMethod, pojoInfo, dtoName);
+        patchMethod.addStatement("$T entity = $N.toEntity($N)", entityType, mapperFieldName, dtoName)
+                .addStatement("entity.setId(id)")
+                .addStatement("return $N.updateById(entity, true)", repositoryFieldName);
+        classBuilder.addMethod(patchMethod.build());
+
+        // 添加批量创建与批量更新方法
+        ClassName transactionalType = ClassName.get("org.springframework.transaction.annotation", "Transactional");
+        AnnotationSpec transactional = AnnotationSpec.builder(transactionalType)
+                .addMember("rollbackFor", "$T.class", Exception.class)
                 .build();
-        classBuilder.addMethod(updateMethod);
+        String dtoListName = pojoInfo.getCamelClassName() + "DTOList";
+        MethodSpec createBatchMethod = MethodSpec.methodBuilder("create" + entityName + "Batch")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addAnnotation(transactional)
+                .addParameter(listOfDto, dtoListName)
+                .returns(TypeName.INT)
+                .addStatement("return $N.insertBatch($N.toEntityList($N))", repositoryFieldName, mapperFieldName, dtoListName)
+                .build();
+        classBuilder.addMethod(createBatchMethod);
+
+        MethodSpec updateBatchMethod = MethodSpec.methodBuilder("update" + entityName + "Batch")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addAnnotation(transactional)
+                .addParameter(listOfDto, dtoListName)
+                .returns(TypeName.INT)
+                .addStatement("return $N.updateBatchById($N.toEntityList($N))", repositoryFieldName, mapperFieldName, dtoListName)
+                .build();
+        classBuilder.addMethod(updateBatchMethod);
 
         // 添加deleteXxx方法
         MethodSpec deleteMethod = MethodSpec.methodBuilder("delete" + entityName)
@@ -159,6 +276,20 @@ public class ServiceImplGenerator implements CodeGenerator {
         return classBuilder.build();
     }
 
+    /**
+     * 实体声明了乐观锁版本字段时，要求更新请求携带版本号，
+     * 由 MyBatis-Flex 在 UPDATE 语句中追加版本条件并递增版本，避免覆盖并发修改
+     */
+    private static void addVersionCheck(MethodSpec.Builder method, ClassMetadata pojoInfo, String dtoName) {
+        ClassMetadata.FieldInfo versionField = pojoInfo.getVersionFieldInfo();
+        if (versionField == null) {
+            return;
+        }
+        method.beginControlFlow("if ($N.$L() == null)", dtoName, DirectConvertorGenerator.getterName(versionField))
+                .addStatement("throw new $T($S)", IllegalArgumentException.class, versionField.getName() + " is required")
+                .endControlFlow();
+    }
+
     @Override
     public String getPackageName() {
         return packageLayout.getServiceImplPackage();
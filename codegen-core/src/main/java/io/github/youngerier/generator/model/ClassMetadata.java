@@ -1,10 +1,14 @@
 package io.github.youngerier.generator.model;
 
 import com.squareup.javapoet.TypeName;
+import io.github.youngerier.generator.annotation.QueryOperator;
 import lombok.Data;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 类元数据信息，包含从源码中解析出的类的详细信息
@@ -14,7 +18,15 @@ public class ClassMetadata {
     private String packageName; // 包名
     private String className;   // 类名
     private String classComment; // 类注释
+    private String tableName;   // 表名
     private List<FieldInfo> fields = new ArrayList<>(); // 字段信息列表
+    private List<IndexInfo> indexes = new ArrayList<>(); // 索引信息列表
+    private boolean cacheEnabled;      // 是否生成缓存服务
+    private long cacheTtlSeconds = 300; // 缓存过期时间（秒）
+    private int cacheMaxSize = 10000;   // 本地缓存最大条目数
+    private List<String> listFields = new ArrayList<>(); // 列表视图字段
+    private boolean streamExport;      // 是否生成流式导出
+    private String versionField;       // 乐观锁版本字段
 
     public String getBasePackageName() {
         return getPackageName().substring(0, getPackageName().lastIndexOf("."));
@@ -24,6 +36,92 @@ public class ClassMetadata {
         return className.substring(0, 1).toLowerCase() + className.substring(1);
     }
 
+    /**
+     * 获取参与查询的字段，按索引顺序排列：主键、唯一索引、普通索引的列依次在前，其余字段保持声明顺序
+     *
+     * @return 排序后的查询字段
+     */
+    public List<FieldInfo> getQueryFieldsInIndexOrder() {
+        Set<String> orderedNames = new LinkedHashSet<>();
+        indexes.stream()
+                .sorted(Comparator.comparing((IndexInfo index) -> !index.isPrimary())
+                        .thenComparing(index -> !index.isUnique()))
+                .forEach(index -> orderedNames.addAll(index.getFields()));
+
+        List<FieldInfo> result = new ArrayList<>();
+        for (String name : orderedNames) {
+            fields.stream()
+                    .filter(field -> field.getName().equals(name) && field.isQueryable())
+                    .findFirst()
+                    .ifPresent(result::add);
+        }
+        for (FieldInfo field : fields) {
+            if (field.isQueryable() && !orderedNames.contains(field.getName())) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 是否声明了主键以外的索引信息
+     *
+     * @return 有索引信息时返回 true
+     */
+    public boolean hasSecondaryIndexes() {
+        return indexes.stream().anyMatch(index -> !index.isPrimary());
+    }
+
+    /**
+     * 字段是否出现在任意索引中
+     *
+     * @param fieldName 字段名
+     * @return 出现在索引中时返回 true
+     */
+    public boolean isIndexed(String fieldName) {
+        return indexes.stream().anyMatch(index -> index.getFields().contains(fieldName));
+    }
+
+    /**
+     * 是否声明了列表视图
+     *
+     * @return 声明了列表视图字段时返回 true
+     */
+    public boolean hasListView() {
+        return !getListFieldInfos().isEmpty();
+    }
+
+    /**
+     * 获取列表视图字段，按声明顺序排列，忽略不存在的字段
+     *
+     * @return 列表视图字段
+     */
+    public List<FieldInfo> getListFieldInfos() {
+        List<FieldInfo> result = new ArrayList<>();
+        for (String name : listFields) {
+            fields.stream()
+                    .filter(field -> field.getName().equals(name))
+                    .findFirst()
+                    .ifPresent(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * 获取乐观锁版本字段信息
+     *
+     * @return 版本字段，未声明时返回 null
+     */
+    public FieldInfo getVersionFieldInfo() {
+        if (versionField == null) {
+            return null;
+        }
+        return fields.stream()
+                .filter(field -> field.getName().equals(versionField))
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * 字段信息内部类
      */
@@ -34,10 +132,25 @@ public class ClassMetadata {
         private String fullType;     // 字段完整类型
         private String comment;      // 字段注释
         private boolean isPrimaryKey; // 是否为主键
+        private List<QueryOperator> queryOperators = new ArrayList<>(List.of(QueryOperator.EQ)); // 支持的查询操作符
 
         // 为了向后兼容，提供一个便捷方法来获取类型的字符串表示
         public String getTypeString() {
             return type != null ? type.toString() : null;
         }
+
+        /**
+         * 是否支持指定的查询操作符
+         */
+        public boolean supports(QueryOperator operator) {
+            return queryOperators.contains(operator);
+        }
+
+        /**
+         * 是否参与查询
+         */
+        public boolean isQueryable() {
+            return !queryOperators.isEmpty();
+        }
     }
-}
\ No newline at end of file
+}
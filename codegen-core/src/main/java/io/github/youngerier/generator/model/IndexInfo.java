@@ -0,0 +1,21 @@
+package io.github.youngerier.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 索引信息，来源于 {@code @GenIndex} 注解、主键注解或 DDL 文件
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexInfo {
+    private String name;                          // 索引名称
+    private List<String> fields = new ArrayList<>(); // 索引列对应的字段名，按索引定义顺序
+    private boolean unique;                       // 是否唯一索引
+    private boolean primary;                      // 是否主键
+}
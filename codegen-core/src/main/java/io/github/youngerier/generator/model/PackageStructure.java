@@ -23,13 +23,19 @@ public class PackageStructure {
     private final String dtoClassName;
     private final String serviceClassName;
     private final String serviceImplClassName;
+    private final String cachingServiceClassName;
+    private final String asyncServiceClassName;
+    private final String asyncServiceImplClassName;
+    private final String batchLoaderClassName;
     private final String repositoryClassName;
     private final String requestClassName;
     private final String responseClassName;
+    private final String listItemClassName;
     private final String convertorClassName;
     private final String controllerClassName;
     private final String queryClassName;
     private final String mapperClassName;
+    private final String benchmarkClassName;
 
     /**
      * 使用基础包名创建包结构配置，默认各组件包名和类名模板基于标准约定生成
@@ -51,13 +57,19 @@ public class PackageStructure {
         this.dtoClassName = entityName + "DTO";
         this.serviceClassName = entityName + "Service";
         this.serviceImplClassName = entityName + "ServiceImpl";
+        this.cachingServiceClassName = entityName + "CachingService";
+        this.asyncServiceClassName = entityName + "AsyncService";
+        this.asyncServiceImplClassName = entityName + "AsyncServiceImpl";
+        this.batchLoaderClassName = entityName + "BatchLoader";
         this.repositoryClassName = entityName + "Repository";
         this.requestClassName = entityName + "Request";
         this.responseClassName = entityName + "Response";
+        this.listItemClassName = entityName + "ListItem";
         this.convertorClassName = entityName + "Convertor";
         this.controllerClassName = entityName + "Controller";
         this.queryClassName = entityName + "Query";
         this.mapperClassName = entityName + "Mapper";
+        this.benchmarkClassName = entityName + "Benchmark";
     }
 
 }
\ No newline at end of file
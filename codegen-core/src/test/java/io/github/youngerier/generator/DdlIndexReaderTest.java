@@ -0,0 +1,108 @@
+package io.github.youngerier.generator;
+
+import io.github.youngerier.generator.model.IndexInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * DdlIndexReader 类的单元测试
+ */
+class DdlIndexReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsTableLevelAndStandaloneIndexes() throws IOException {
+        Map<String, List<IndexInfo>> indexes = read("""
+                CREATE TABLE IF NOT EXISTS `t_user` (
+                  `id` bigint NOT NULL,
+                  `user_name` varchar(64) NOT NULL,
+                  `status` int,
+                  PRIMARY KEY (`id`),
+                  UNIQUE KEY `uk_user_name` (`user_name`),
+                  KEY `idx_status_name` (`status`, `user_name`(20) DESC)
+                );
+                CREATE INDEX idx_status ON t_user (status);
+                """);
+
+        List<IndexInfo> userIndexes = indexes.get("t_user");
+        assertEquals(4, userIndexes.size());
+        assertIndex(userIndexes, "PRIMARY", List.of("id"), true, true);
+        assertIndex(userIndexes, "uk_user_name", List.of("userName"), true, false);
+        assertIndex(userIndexes, "idx_status_name", List.of("status", "userName"), false, false);
+        assertIndex(userIndexes, "idx_status", List.of("status"), false, false);
+    }
+
+    @Test
+    void readsColumnLevelConstraints() throws IOException {
+        Map<String, List<IndexInfo>> indexes = read("""
+                CREATE TABLE t_user (
+                  id bigint PRIMARY KEY AUTO_INCREMENT,
+                  username varchar(64) UNIQUE,
+                  email varchar(128) NOT NULL UNIQUE KEY,
+                  nickname varchar(64) COMMENT 'not unique, primary key of nothing'
+                );
+                """);
+
+        List<IndexInfo> userIndexes = indexes.get("t_user");
+        assertEquals(3, userIndexes.size());
+        assertIndex(userIndexes, "PRIMARY", List.of("id"), true, true);
+        assertIndex(userIndexes, "username", List.of("username"), true, false);
+        assertIndex(userIndexes, "email", List.of("email"), true, false);
+    }
+
+    @Test
+    void ignoresCommentMarkersAndParenthesesInStringLiterals() throws IOException {
+        Map<String, List<IndexInfo>> indexes = read("""
+                -- 用户表
+                CREATE TABLE t_order (
+                  id bigint NOT NULL, /* 主键 */
+                  remark varchar(255) DEFAULT '--' COMMENT 'remark (optional, may contain ''quotes''',
+                  `code` varchar(32) COMMENT "code, with comma)",
+                  user_id bigint COMMENT 'owner -- see t_user',
+                  PRIMARY KEY (id),
+                  KEY idx_user (user_id) COMMENT 'lookup (by user'
+                );
+                """);
+
+        List<IndexInfo> orderIndexes = indexes.get("t_order");
+        assertEquals(2, orderIndexes.size());
+        assertIndex(orderIndexes, "PRIMARY", List.of("id"), true, true);
+        assertIndex(orderIndexes, "idx_user", List.of("userId"), false, false);
+    }
+
+    @Test
+    void stripCommentsKeepsStringLiterals() {
+        String ddl = "a '--x' -- comment\nb '/* y */' /* block */ c";
+
+        assertEquals("a '--x'  \nb '/* y */'   c", DdlIndexReader.stripComments(ddl));
+    }
+
+    private Map<String, List<IndexInfo>> read(String ddl) throws IOException {
+        Path file = tempDir.resolve("schema.sql");
+        Files.writeString(file, ddl, StandardCharsets.UTF_8);
+        return new DdlIndexReader().read(file);
+    }
+
+    private static void assertIndex(List<IndexInfo> indexes, String name, List<String> fields, boolean unique, boolean primary) {
+        IndexInfo index = indexes.stream()
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(index, () -> "missing index " + name + " in " + indexes);
+        assertEquals(fields, index.getFields());
+        assertEquals(unique, index.isUnique());
+        assertEquals(primary, index.isPrimary());
+    }
+}
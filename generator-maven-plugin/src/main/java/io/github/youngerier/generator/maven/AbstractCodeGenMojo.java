@@ -0,0 +1,219 @@
+package io.github.youngerier.generator.maven;
+
+import io.github.youngerier.generator.ConvertorStyle;
+import io.github.youngerier.generator.GeneratedLayer;
+import io.github.youngerier.generator.GeneratorConfig;
+import io.github.youngerier.generator.annotation.GenModel;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Shared configuration and POJO scanning for the goals that run the {@code GeneratorEngine}.
+ */
+public abstract class AbstractCodeGenMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    protected MavenProject project;
+
+    /**
+     * List of packages to scan for POJOs.
+     */
+    @Parameter(property = "pojo.codegen.scanPackages", required = true)
+    protected List<String> scanPackages;
+
+    /**
+     * Base directory where the generated Java files will be saved.
+     * Note: The final output will be inside a 'src/main/java' subdirectory of this path.
+     * Defaults to ${project.build.directory}/generated-sources/
+     */
+    @Parameter(property = "pojo.codegen.outputDir", defaultValue = "${project.build.directory}/generated-sources/")
+    protected File outputDir;
+
+    /**
+     * Whether to split the generated sources into one source root per layer (model / service / web).
+     * When enabled each layer is written to outputDir/{layer}/src/main/java, so that downstream
+     * modules only need to compile the slice they depend on.
+     */
+    @Parameter(property = "pojo.codegen.splitByLayer", defaultValue = "false")
+    protected boolean splitByLayer;
+
+    /**
+     * Layers to generate and add to the compile source roots (MODEL, SERVICE, WEB).
+     * Defaults to all layers.
+     */
+    @Parameter(property = "pojo.codegen.layers")
+    protected List<String> layers;
+
+    /**
+     * Optional DDL file whose PRIMARY KEY / UNIQUE / KEY / CREATE INDEX definitions are used,
+     * together with {@code @GenIndex}, to order generated query predicates and warn about unindexed query fields.
+     */
+    @Parameter(property = "pojo.codegen.ddlFile")
+    protected File ddlFile;
+
+    /**
+     * Whether to generate the async profile: CompletableFuture-returning {Entity}AsyncService
+     * running on the executor from {@code AsyncExecutors} (virtual threads when available),
+     * and Controllers that delegate to it.
+     */
+    @Parameter(property = "pojo.codegen.async", defaultValue = "false")
+    protected boolean async;
+
+    /**
+     * How the {Entity}Convertor is generated: MAPSTRUCT (a MapStruct interface) or DIRECT
+     * (a plain class with generated field-by-field copies, no annotation processor needed).
+     */
+    @Parameter(property = "pojo.codegen.convertorStyle", defaultValue = "MAPSTRUCT")
+    protected String convertorStyle;
+
+    /**
+     * Whether to generate a JMH {Entity}Benchmark per entity covering the convertor and query building.
+     * Benchmarks are written to a test source root and need jmh-core / jmh-generator-annprocess in test scope.
+     */
+    @Parameter(property = "pojo.codegen.benchmark", defaultValue = "false")
+    protected boolean benchmark;
+
+    /**
+     * 创建生成器配置
+     */
+    protected GeneratorConfig createConfig(List<Class<?>> pojoClasses, boolean dryRun) throws MojoExecutionException {
+        return GeneratorConfig.builder()
+                .moduleName(project.getArtifactId())
+                .outputBaseDir(outputDir.getAbsolutePath())
+                .pojoClasses(pojoClasses)
+                .splitByLayer(splitByLayer)
+                .layers(resolveLayers())
+                .ddlFile(ddlFile != null ? ddlFile.getAbsolutePath() : null)
+                .dryRun(dryRun)
+                .async(async)
+                .convertorStyle(resolveConvertorStyle())
+                .benchmark(benchmark)
+                .build();
+    }
+
+    /**
+     * 解析转换器生成方式配置
+     */
+    protected ConvertorStyle resolveConvertorStyle() throws MojoExecutionException {
+        if (convertorStyle == null || convertorStyle.isBlank()) {
+            return ConvertorStyle.MAPSTRUCT;
+        }
+        try {
+            return ConvertorStyle.valueOf(convertorStyle.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("Unknown convertorStyle '" + convertorStyle + "', expected one of "
+                    + Arrays.toString(ConvertorStyle.values()), e);
+        }
+    }
+
+    /**
+     * 解析需要生成的分层配置
+     */
+    protected Set<GeneratedLayer> resolveLayers() throws MojoExecutionException {
+        Set<GeneratedLayer> result = EnumSet.noneOf(GeneratedLayer.class);
+        if (layers == null || layers.isEmpty()) {
+            result.addAll(Arrays.asList(GeneratedLayer.values()));
+            return result;
+        }
+        for (String layer : layers) {
+            try {
+                result.add(GeneratedLayer.valueOf(layer.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new MojoExecutionException("Unknown layer '" + layer + "', expected one of "
+                        + Arrays.toString(GeneratedLayer.values()), e);
+            }
+        }
+        return result;
+    }
+
+    protected List<Class<?>> findPojoClasses() throws MojoExecutionException {
+        ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            List<URL> urls = new ArrayList<>();
+            
+            // 获取编译classpath元素并转换为URL
+            List<String> classpathElements = getProjectClasspathElements();
+            
+            for (String element : classpathElements) {
+                try {
+                    File file = new File(element);
+                    if (file.exists()) {
+                        urls.add(file.toURI().toURL());
+                    }
+                } catch (Exception e) {
+                    getLog().warn("Failed to convert classpath element to URL: " + element, e);
+                }
+            }
+            
+            // 如果没有找到任何URL，至少添加当前项目的输出目录
+            if (urls.isEmpty()) {
+                File outputDir = new File(project.getBuild().getOutputDirectory());
+                if (outputDir.exists()) {
+                    urls.add(outputDir.toURI().toURL());
+                }
+            }
+            
+            // 创建自定义类加载器
+            URLClassLoader customClassLoader = new URLClassLoader(
+                urls.toArray(new URL[0]), 
+                this.getClass().getClassLoader()
+            );
+            
+            // 设置线程上下文类加载器
+            Thread.currentThread().setContextClassLoader(customClassLoader);
+
+            // 使用Reflections扫描标注了@GenModel的类
+            Reflections reflections = new Reflections(new ConfigurationBuilder()
+                    .setUrls(urls)
+                    .setScanners(Scanners.TypesAnnotated)
+                    .forPackages(scanPackages.toArray(new String[0]))
+                    .addClassLoaders(customClassLoader));
+
+            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(GenModel.class);
+            List<Class<?>> result = new ArrayList<>(annotatedClasses);
+            getLog().info("Found " + result.size() + " classes annotated with @GenModel: " + result);
+            return result;
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error scanning for POJO classes", e);
+        } finally {
+            // 恢复原始的类加载器
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+        }
+    }
+    
+    /**
+     * 安全地获取项目classpath元素
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> getProjectClasspathElements() throws MojoExecutionException {
+        try {
+            // 使用反射来调用getCompileClasspathElements方法，避免直接依赖异常类型
+            Object result = project.getClass().getMethod("getCompileClasspathElements").invoke(project);
+            return (List<String>) result;
+        } catch (Exception e) {
+            getLog().warn("Failed to get compile classpath elements, falling back to output directory", e);
+            // 回退方案：只使用项目的输出目录
+            List<String> fallback = new ArrayList<>();
+            String outputDirectory = project.getBuild().getOutputDirectory();
+            if (outputDirectory != null) {
+                fallback.add(outputDirectory);
+            }
+            return fallback;
+        }
+    }
+}
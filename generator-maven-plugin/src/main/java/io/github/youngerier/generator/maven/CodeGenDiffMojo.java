@@ -0,0 +1,72 @@
+package io.github.youngerier.generator.maven;
+
+import io.github.youngerier.generator.GeneratedFileStatus;
+import io.github.youngerier.generator.GenerationDiff;
+import io.github.youngerier.generator.GeneratorEngine;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Run the generator in memory and report which generated files would be added, changed,
+ * left unchanged or orphaned, without writing anything to disk.
+ */
+@Mojo(name = "diff", requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME)
+public class CodeGenDiffMojo extends AbstractCodeGenMojo {
+
+    /**
+     * Fail the build when any generated file would be added, changed or orphaned.
+     */
+    @Parameter(property = "pojo.codegen.failOnChange", defaultValue = "false")
+    private boolean failOnChange;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (scanPackages == null || scanPackages.isEmpty()) {
+            getLog().warn("No packages to scan configured. Skipping diff.");
+            return;
+        }
+
+        File outputDirectory = new File(project.getBuild().getOutputDirectory());
+        if (!outputDirectory.isDirectory()) {
+            throw new MojoExecutionException("Project classes not found in " + outputDirectory
+                    + ", run 'mvn compile' before 'pojo-codegen:diff'");
+        }
+
+        List<Class<?>> pojoClasses = findPojoClasses();
+        if (pojoClasses.isEmpty()) {
+            getLog().warn("No POJOs with @GenModel annotation found in specified packages. Skipping diff.");
+            return;
+        }
+
+        GeneratorEngine engine = new GeneratorEngine(createConfig(pojoClasses, true));
+        engine.execute();
+        GenerationDiff diff = engine.getDiff();
+
+        getLog().info(String.format("Generated files compared with %s: %d added, %d changed, %d unchanged, %d orphaned",
+                outputDir.getAbsolutePath(),
+                diff.count(GeneratedFileStatus.ADDED),
+                diff.count(GeneratedFileStatus.CHANGED),
+                diff.count(GeneratedFileStatus.UNCHANGED),
+                diff.count(GeneratedFileStatus.ORPHANED)));
+        for (GeneratedFileStatus status : GeneratedFileStatus.values()) {
+            for (Path file : diff.getFiles(status)) {
+                if (status == GeneratedFileStatus.UNCHANGED) {
+                    getLog().debug("  " + status + " " + file);
+                } else {
+                    getLog().info("  " + status + " " + file);
+                }
+            }
+        }
+
+        if (failOnChange && diff.hasChanges()) {
+            throw new MojoFailureException("Generated sources are out of date, run 'pojo-codegen:generate' to update them");
+        }
+    }
+}
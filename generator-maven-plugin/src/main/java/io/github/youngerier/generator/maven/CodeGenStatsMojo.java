@@ -0,0 +1,71 @@
+package io.github.youngerier.generator.maven;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Print historical trends of code generation runs from the reports written by the {@code generate} goal.
+ */
+@Mojo(name = "stats")
+public class CodeGenStatsMojo extends AbstractMojo {
+
+    /**
+     * Directory containing the generation reports.
+     */
+    @Parameter(property = "pojo.codegen.reportDir", defaultValue = "${project.build.directory}/pojo-codegen")
+    private File reportDir;
+
+    /**
+     * Maximum number of most recent runs to print.
+     */
+    @Parameter(property = "pojo.codegen.stats.limit", defaultValue = "10")
+    private int limit;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        List<GenerationReport> reports;
+        try {
+            reports = GenerationReport.readAll(reportDir);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to read generation reports from " + reportDir, e);
+        }
+        if (reports.isEmpty()) {
+            getLog().info("No generation reports found in " + reportDir.getAbsolutePath());
+            return;
+        }
+
+        List<GenerationReport> recent = reports.subList(Math.max(0, reports.size() - Math.max(1, limit)), reports.size());
+        getLog().info("Code generation trends (" + recent.size() + " of " + reports.size() + " runs):");
+        getLog().info(String.format("%-19s %8s %8s %8s %8s %7s %7s %9s %10s",
+                "time", "scan ms", "parse ms", "gen ms", "total ms", "classes", "written", "unchanged", "cache hit"));
+        for (GenerationReport report : recent) {
+            getLog().info(String.format("%-19s %8d %8d %8d %8d %7d %7d %9d %9.1f%%",
+                    GenerationReport.formatTimestamp(report.getTimestamp()),
+                    report.getScanTimeMillis(),
+                    report.getAnalyzeTimeMillis(),
+                    report.getGenerateTimeMillis(),
+                    report.getTotalTimeMillis(),
+                    report.getAnalyzedClasses(),
+                    report.getWrittenFiles(),
+                    report.getSkippedFiles(),
+                    cacheHitRate(report)));
+        }
+
+        GenerationReport first = recent.get(0);
+        GenerationReport last = recent.get(recent.size() - 1);
+        double averageTotal = recent.stream().mapToLong(GenerationReport::getTotalTimeMillis).average().orElse(0);
+        getLog().info(String.format("Average total time: %.1f ms, latest vs oldest shown: %+d ms",
+                averageTotal, last.getTotalTimeMillis() - first.getTotalTimeMillis()));
+    }
+
+    private double cacheHitRate(GenerationReport report) {
+        int lookups = report.getParseCacheHits() + report.getParseCacheMisses();
+        return lookups == 0 ? 0 : report.getParseCacheHits() * 100.0 / lookups;
+    }
+}
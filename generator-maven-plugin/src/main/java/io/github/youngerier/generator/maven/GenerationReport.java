@@ -0,0 +1,214 @@
+package io.github.youngerier.generator.maven;
+
+import io.github.youngerier.generator.GenerationStatistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Statistics of a single code generation run, persisted as an XML properties file
+ * so that the {@code stats} goal can show trends across builds.
+ */
+public class GenerationReport {
+
+    static final String FILE_PREFIX = "codegen-report-";
+    static final String FILE_SUFFIX = ".xml";
+
+    private static final String TIMESTAMP_PATTERN = "yyyyMMdd-HHmmss-SSS";
+
+    private long timestamp;
+    private String module;
+    private long scanTimeMillis;
+    private long analyzeTimeMillis;
+    private long generateTimeMillis;
+    private long totalTimeMillis;
+    private int scannedClasses;
+    private int analyzedClasses;
+    private int parseCacheHits;
+    private int parseCacheMisses;
+    private int writtenFiles;
+    private int skippedFiles;
+    private long bytesWritten;
+
+    /**
+     * Build a report from the engine statistics of the current run.
+     */
+    public static GenerationReport of(String module, int scannedClasses, long scanTimeMillis,
+                                      long totalTimeMillis, GenerationStatistics statistics) {
+        GenerationReport report = new GenerationReport();
+        report.timestamp = System.currentTimeMillis();
+        report.module = module;
+        report.scannedClasses = scannedClasses;
+        report.scanTimeMillis = scanTimeMillis;
+        report.totalTimeMillis = totalTimeMillis;
+        report.analyzeTimeMillis = statistics.getAnalyzeTimeMillis();
+        report.generateTimeMillis = statistics.getGenerateTimeMillis();
+        report.analyzedClasses = statistics.getAnalyzedClasses();
+        report.parseCacheHits = statistics.getParseCacheHits();
+        report.parseCacheMisses = statistics.getParseCacheMisses();
+        report.writtenFiles = statistics.getWrittenFiles();
+        report.skippedFiles = statistics.getSkippedFiles();
+        report.bytesWritten = statistics.getBytesWritten();
+        return report;
+    }
+
+    /**
+     * Human readable lines for the Maven log.
+     */
+    public List<String> toLogLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Code generation statistics:");
+        lines.add("  scan time           : " + scanTimeMillis + " ms (" + scannedClasses + " classes found)");
+        lines.add("  analyze time        : " + analyzeTimeMillis + " ms (" + analyzedClasses + " classes analyzed)");
+        lines.add("  generate time       : " + generateTimeMillis + " ms");
+        lines.add("  total time          : " + totalTimeMillis + " ms");
+        lines.add("  parsed source cache : " + parseCacheHits + " hits, " + parseCacheMisses + " misses");
+        lines.add("  files written       : " + writtenFiles + " (" + bytesWritten + " bytes)");
+        lines.add("  files unchanged     : " + skippedFiles);
+        return lines;
+    }
+
+    /**
+     * Write the report into the given directory, one file per run.
+     *
+     * @return the written report file
+     */
+    public File writeTo(File directory) throws IOException {
+        Files.createDirectories(directory.toPath());
+        String name = FILE_PREFIX + new SimpleDateFormat(TIMESTAMP_PATTERN).format(new Date(timestamp)) + FILE_SUFFIX;
+        File file = new File(directory, name);
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            toProperties().storeToXML(out, "pojo-codegen generation report");
+        }
+        return file;
+    }
+
+    /**
+     * Read all reports from the given directory, oldest first.
+     */
+    public static List<GenerationReport> readAll(File directory) throws IOException {
+        List<GenerationReport> reports = new ArrayList<>();
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX));
+        if (files == null) {
+            return reports;
+        }
+        for (File file : files) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                properties.loadFromXML(in);
+            }
+            reports.add(fromProperties(properties));
+        }
+        reports.sort(Comparator.comparingLong(GenerationReport::getTimestamp));
+        return reports;
+    }
+
+    private Properties toProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("timestamp", String.valueOf(timestamp));
+        properties.setProperty("module", module == null ? "" : module);
+        properties.setProperty("scanTimeMillis", String.valueOf(scanTimeMillis));
+        properties.setProperty("analyzeTimeMillis", String.valueOf(analyzeTimeMillis));
+        properties.setProperty("generateTimeMillis", String.valueOf(generateTimeMillis));
+        properties.setProperty("totalTimeMillis", String.valueOf(totalTimeMillis));
+        properties.setProperty("scannedClasses", String.valueOf(scannedClasses));
+        properties.setProperty("analyzedClasses", String.valueOf(analyzedClasses));
+        properties.setProperty("parseCacheHits", String.valueOf(parseCacheHits));
+        properties.setProperty("parseCacheMisses", String.valueOf(parseCacheMisses));
+        properties.setProperty("writtenFiles", String.valueOf(writtenFiles));
+        properties.setProperty("skippedFiles", String.valueOf(skippedFiles));
+        properties.setProperty("bytesWritten", String.valueOf(bytesWritten));
+        return properties;
+    }
+
+    private static GenerationReport fromProperties(Properties properties) {
+        GenerationReport report = new GenerationReport();
+        report.timestamp = parseLong(properties, "timestamp");
+        report.module = properties.getProperty("module", "");
+        report.scanTimeMillis = parseLong(properties, "scanTimeMillis");
+        report.analyzeTimeMillis = parseLong(properties, "analyzeTimeMillis");
+        report.generateTimeMillis = parseLong(properties, "generateTimeMillis");
+        report.totalTimeMillis = parseLong(properties, "totalTimeMillis");
+        report.scannedClasses = (int) parseLong(properties, "scannedClasses");
+        report.analyzedClasses = (int) parseLong(properties, "analyzedClasses");
+        report.parseCacheHits = (int) parseLong(properties, "parseCacheHits");
+        report.parseCacheMisses = (int) parseLong(properties, "parseCacheMisses");
+        report.writtenFiles = (int) parseLong(properties, "writtenFiles");
+        report.skippedFiles = (int) parseLong(properties, "skippedFiles");
+        report.bytesWritten = parseLong(properties, "bytesWritten");
+        return report;
+    }
+
+    private static long parseLong(Properties properties, String key) {
+        try {
+            return Long.parseLong(properties.getProperty(key, "0").trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    static String formatTimestamp(long timestamp) {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(timestamp));
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getModule() {
+        return module;
+    }
+
+    public long getScanTimeMillis() {
+        return scanTimeMillis;
+    }
+
+    public long getAnalyzeTimeMillis() {
+        return analyzeTimeMillis;
+    }
+
+    public long getGenerateTimeMillis() {
+        return generateTimeMillis;
+    }
+
+    public long getTotalTimeMillis() {
+        return totalTimeMillis;
+    }
+
+    public int getScannedClasses() {
+        return scannedClasses;
+    }
+
+    public int getAnalyzedClasses() {
+        return analyzedClasses;
+    }
+
+    public int getParseCacheHits() {
+        return parseCacheHits;
+    }
+
+    public int getParseCacheMisses() {
+        return parseCacheMisses;
+    }
+
+    public int getWrittenFiles() {
+        return writtenFiles;
+    }
+
+    public int getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+}
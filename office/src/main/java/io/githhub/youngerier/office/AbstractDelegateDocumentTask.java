@@ -74,7 +74,10 @@ public abstract class AbstractDelegateDocumentTask implements OfficeDocumentTask
         try {
             updateState(OfficeTaskState.EXECUTING);
             doTask();
-            updateState(OfficeTaskState.COMPLETED);
+            // 执行中被取消或中断时保留该状态
+            if (!OfficeTaskState.isFinished(getState())) {
+                updateState(OfficeTaskState.COMPLETED);
+            }
         } catch (Throwable throwable) {
             updateState(OfficeTaskState.FAILED);
             throw throwable;
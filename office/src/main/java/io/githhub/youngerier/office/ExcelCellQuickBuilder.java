@@ -2,6 +2,7 @@ package io.githhub.youngerier.office;
 
 import io.githhub.youngerier.office.formatter.DefaultFormatterFactory;
 import io.githhub.youngerier.office.metadata.ExcelCellDescriptor;
+import io.githhub.youngerier.office.metadata.PropertyPathValueExtractor;
 import io.github.youngerier.support.DateFormatPatterns;
 import io.github.youngerier.support.constants.Constants;
 import io.github.youngerier.support.enums.DescriptiveEnum;
@@ -9,6 +10,7 @@ import io.github.youngerier.support.exception.BaseException;
 import io.github.youngerier.support.util.WindReflectUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
 import org.springframework.format.Printer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
@@ -57,30 +59,42 @@ public final class ExcelCellQuickBuilder {
                 .map(filedName -> {
                     Field field = fields.get(filedName);
                     if (field != null) {
-                        return buildExcelCellDescriptor(field);
+                        return buildExcelCellDescriptor(clazz, field);
                     }
                     Method method = getterMethods.get(filedName);
                     if (method != null) {
-                        return buildExcelCellDescriptor(method);
+                        return buildExcelCellDescriptor(clazz, method);
                     }
                     throw BaseException.common("not found name = " + filedName + " field");
                 })
                 .toList();
     }
 
-    private static ExcelCellDescriptor buildExcelCellDescriptor(Field field) {
-        return ExcelCellDescriptor
-                .builder(EXCEL_TITLE_PARSE.get().apply(field), field.getName())
-                .printer(ofPrinter(field.getName(), field))
-                .build();
+    private static ExcelCellDescriptor buildExcelCellDescriptor(Class<?> clazz, Field field) {
+        return buildExcelCellDescriptor(clazz, field.getName(), field, field.getType(), EXCEL_TITLE_PARSE.get().apply(field));
     }
 
-    private static ExcelCellDescriptor buildExcelCellDescriptor(Method method) {
+    private static ExcelCellDescriptor buildExcelCellDescriptor(Class<?> clazz, Method method) {
         String fieldName = convertGetMethodNameToFieldName(method);
-        return ExcelCellDescriptor
-                .builder(EXCEL_TITLE_PARSE.get().apply(method), fieldName)
-                .printer(ofPrinter(fieldName, method))
-                .build();
+        return buildExcelCellDescriptor(clazz, fieldName, method, method.getReturnType(), EXCEL_TITLE_PARSE.get().apply(method));
+    }
+
+    private static ExcelCellDescriptor buildExcelCellDescriptor(Class<?> clazz, String fieldName, Member member, Class<?> valueType, String title) {
+        ExcelCellDescriptor.ExcelCellDescriptorBuilder builder = ExcelCellDescriptor.builder(title, fieldName)
+                .extractor(PropertyPathValueExtractor.of(clazz, fieldName));
+        Printer<?> printer = EXCEL_CELL_PRINTER.get().apply(fieldName, member);
+        if (printer == null) {
+            printer = createDefaultPrinterByClass(valueType);
+            // 默认 printer 输出的日期、布尔文本在 typedCells 模式下改为按原值写入
+            String dataFormat = createDefaultDataFormatByClass(valueType);
+            if (dataFormat != null) {
+                builder.dataFormat(dataFormat);
+            }
+        }
+        if (printer != null) {
+            builder.printer(printer);
+        }
+        return builder.build();
     }
 
     private static List<String> getOrderedFields(@NotNull Class<?> clazz, @Nullable List<String> orderedFields) {
@@ -106,17 +120,6 @@ public final class ExcelCellQuickBuilder {
         return methodName.substring(0, 1).toLowerCase() + methodName.substring(1);
     }
 
-    private static Printer<?> ofPrinter(String name, Member member) {
-        Printer<?> printer = EXCEL_CELL_PRINTER.get().apply(name, member);
-        if (member instanceof Field field) {
-            return printer == null ? createDefaultPrinterByClass(field.getType()) : printer;
-        }
-        if (member instanceof Method method) {
-            return printer == null ? createDefaultPrinterByClass(method.getReturnType()) : printer;
-        }
-        return null;
-    }
-
     @SuppressWarnings("unchecked")
     private static Printer<?> createDefaultPrinterByClass(Class<?> clazz) {
         if (clazz.isAssignableFrom(DescriptiveEnum.class)) {
@@ -140,6 +143,23 @@ public final class ExcelCellQuickBuilder {
         return null;
     }
 
+    /**
+     * 与默认 printer 输出格式一致的 excel 数据格式，用于 typedCells 模式下写入日期、布尔单元格
+     */
+    @Nullable
+    private static String createDefaultDataFormatByClass(Class<?> clazz) {
+        if (Objects.equals(clazz, Boolean.class) || Objects.equals(clazz, boolean.class)) {
+            return BuiltinFormats.getBuiltinFormat(0);
+        }
+        if (Objects.equals(clazz, Date.class) || Objects.equals(clazz, LocalDateTime.class)) {
+            return DateFormatPatterns.YYYY_MM_DD_HH_MM_SS;
+        }
+        if (Objects.equals(clazz, LocalDate.class)) {
+            return DateFormatPatterns.YYYY_MM_DD;
+        }
+        return null;
+    }
+
 
     private static class Swagger3ExcelTitleParser implements Function<AnnotatedElement, String> {
 
@@ -25,8 +25,35 @@ public interface ExcelDocumentWriter {
      */
     void write(Collection<Object> rows);
 
+    /**
+     * 预处理（如格式化）行数据，不写入文档，可以在多个线程中并发调用，结果通过 {@link #writePrepared(Collection)} 按顺序写入
+     *
+     * @param rows 行数据列表
+     * @return 预处理后的行数据，与 rows 一一对应
+     */
+    default Collection<?> prepare(Collection<Object> rows) {
+        return rows;
+    }
+
+    /**
+     * 写入 {@link #prepare(Collection)} 的结果
+     *
+     * @param preparedRows 预处理后的行数据
+     */
+    @SuppressWarnings("unchecked")
+    default void writePrepared(Collection<?> preparedRows) {
+        write((Collection<Object>) preparedRows);
+    }
+
     /**
      * 写入完成
      */
     void finish();
+
+    /**
+     * 放弃写入并释放资源（如临时文件、输出流），不输出完整的文档，用于任务失败、中断或取消；
+     * 调用 {@link #finish()} 之后再调用不做任何处理
+     */
+    default void abort() {
+    }
 }
@@ -0,0 +1,30 @@
+package io.githhub.youngerier.office;
+
+import io.github.youngerier.support.page.CursorPagination;
+import org.springframework.lang.Nullable;
+
+/**
+ * 基于游标（keyset）的 excel 导出数据 fetcher，按上一页最后一条记录的主键翻页，避免深分页时 OFFSET 扫描
+ *
+ **/
+@FunctionalInterface
+public interface KeysetExcelDataFetcher<T> {
+
+    /**
+     * 抓取数据
+     *
+     * @param lastKey 上一页最后一条记录的主键，为 null 时抓取第一页
+     * @param size    抓取大小
+     * @return 当前页数据与下一页游标，没有下一页时 {@link CursorPagination#isHasMore()} 为 false
+     */
+    CursorPagination<T> fetch(@Nullable Long lastKey, int size);
+
+    /**
+     * 转换为按页码抓取的 fetcher，页码必须从 1 开始依次抓取，内部记录上一页返回的游标
+     *
+     * @return 按页码抓取的 fetcher，每次调用返回新的实例
+     */
+    default ExportExcelDataFetcher<T> asPageFetcher() {
+        return new KeysetPageDataFetcher<>(this);
+    }
+}
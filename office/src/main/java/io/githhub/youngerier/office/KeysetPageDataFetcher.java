@@ -0,0 +1,44 @@
+package io.githhub.youngerier.office;
+
+import io.github.youngerier.support.AssertUtils;
+import io.github.youngerier.support.page.CursorPagination;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 将 {@link KeysetExcelDataFetcher} 适配为按页码抓取，页码只能依次递增，抓取第 1 页时重置游标
+ *
+ **/
+final class KeysetPageDataFetcher<T> implements ExportExcelDataFetcher<T> {
+
+    private final KeysetExcelDataFetcher<T> delegate;
+
+    private Long lastKey;
+
+    private boolean hasMore;
+
+    private int nextPage = 1;
+
+    KeysetPageDataFetcher(KeysetExcelDataFetcher<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<T> fetch(int page, int size) {
+        if (page == 1) {
+            lastKey = null;
+            hasMore = true;
+        } else {
+            AssertUtils.isTrue(page == nextPage, () -> "keyset fetcher must fetch pages in order, expected page = " + nextPage + ", actual = " + page);
+        }
+        nextPage = page + 1;
+        if (!hasMore) {
+            return Collections.emptyList();
+        }
+        CursorPagination<T> result = delegate.fetch(lastKey, size);
+        lastKey = result.getNextCursor();
+        hasMore = result.isHasMore();
+        return result.getRecords();
+    }
+}
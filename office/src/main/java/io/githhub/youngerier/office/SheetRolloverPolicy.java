@@ -0,0 +1,66 @@
+package io.githhub.youngerier.office;
+
+import io.github.youngerier.support.AssertUtils;
+import lombok.Getter;
+
+/**
+ * sheet 滚动策略，单个 sheet 的数据行数达到上限后自动新建 sheet 继续写入，并重复写入表头
+ *
+ **/
+@Getter
+public final class SheetRolloverPolicy {
+
+    /**
+     * xlsx 单个 sheet 的最大行数（含表头）
+     */
+    public static final int XLSX_MAX_ROWS = 1_048_576;
+
+    /**
+     * sheet 名称的最大长度
+     */
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    private static final SheetRolloverPolicy DEFAULT = new SheetRolloverPolicy(XLSX_MAX_ROWS - 1);
+
+    /**
+     * 单个 sheet 的最大数据行数，不含表头
+     */
+    private final int maxRowsPerSheet;
+
+    private SheetRolloverPolicy(int maxRowsPerSheet) {
+        this.maxRowsPerSheet = maxRowsPerSheet;
+    }
+
+    /**
+     * @return 按 xlsx 行数上限滚动
+     */
+    public static SheetRolloverPolicy defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param maxRowsPerSheet 单个 sheet 的最大数据行数，不含表头
+     * @return 滚动策略
+     */
+    public static SheetRolloverPolicy of(int maxRowsPerSheet) {
+        AssertUtils.isTrue(maxRowsPerSheet > 0 && maxRowsPerSheet < XLSX_MAX_ROWS,
+                "argument maxRowsPerSheet must between 1 and " + (XLSX_MAX_ROWS - 1));
+        return new SheetRolloverPolicy(maxRowsPerSheet);
+    }
+
+    /**
+     * 滚动后的 sheet 名称，第一个 sheet 使用原名称，之后依次为 "原名称(2)"、"原名称(3)"
+     *
+     * @param sheetName 原 sheet 名称
+     * @param sequence  sheet 序号，从 0 开始
+     * @return sheet 名称
+     */
+    public String sheetName(String sheetName, int sequence) {
+        if (sequence == 0) {
+            return sheetName;
+        }
+        String suffix = "(" + (sequence + 1) + ")";
+        int maxLength = MAX_SHEET_NAME_LENGTH - suffix.length();
+        return (sheetName.length() > maxLength ? sheetName.substring(0, maxLength) : sheetName) + suffix;
+    }
+}
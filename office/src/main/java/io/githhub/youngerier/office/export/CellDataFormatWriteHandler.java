@@ -0,0 +1,60 @@
+package io.githhub.youngerier.office.export;
+
+import com.alibaba.excel.enums.CellDataTypeEnum;
+import com.alibaba.excel.metadata.data.WriteCellData;
+import com.alibaba.excel.write.handler.CellWriteHandler;
+import com.alibaba.excel.write.handler.context.CellWriteHandlerContext;
+import com.alibaba.excel.write.metadata.style.DataFormatData;
+import io.githhub.youngerier.office.metadata.ExcelCellDescriptor;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 按 {@link ExcelCellDescriptor#getDataFormat()} 设置按原值写入的单元格的数据格式，仅 typedCells 模式使用
+ * <p>
+ * EasyExcel 对日期单元格使用固定的默认格式，这里在值转换后覆盖为描述符配置的格式；文本、空单元格不处理。
+ *
+ **/
+final class CellDataFormatWriteHandler implements CellWriteHandler {
+
+    private static final Set<CellDataTypeEnum> FORMATTED_TYPES = EnumSet.of(CellDataTypeEnum.NUMBER, CellDataTypeEnum.DATE, CellDataTypeEnum.BOOLEAN);
+
+    /**
+     * 按列下标保存的数据格式，为 null 时不处理
+     */
+    private final String[] dataFormats;
+
+    CellDataFormatWriteHandler(List<ExcelCellDescriptor> descriptors) {
+        this.dataFormats = descriptors.stream().map(ExcelCellDescriptor::getDataFormat).toArray(String[]::new);
+    }
+
+    /**
+     * @return 是否有列配置了数据格式
+     */
+    boolean hasDataFormats() {
+        for (String dataFormat : dataFormats) {
+            if (dataFormat != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void afterCellDataConverted(CellWriteHandlerContext context) {
+        Integer columnIndex = context.getColumnIndex();
+        if (Boolean.TRUE.equals(context.getHead()) || columnIndex == null || columnIndex >= dataFormats.length
+                || dataFormats[columnIndex] == null) {
+            return;
+        }
+        WriteCellData<?> cellData = context.getFirstCellData();
+        if (cellData == null || !FORMATTED_TYPES.contains(cellData.getType())) {
+            return;
+        }
+        DataFormatData dataFormatData = new DataFormatData();
+        dataFormatData.setFormat(dataFormats[columnIndex]);
+        cellData.getOrCreateStyle().setDataFormatData(dataFormatData);
+    }
+}
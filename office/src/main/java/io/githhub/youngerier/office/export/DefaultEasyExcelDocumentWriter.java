@@ -1,65 +1,346 @@
 package io.githhub.youngerier.office.export;
 
+import com.alibaba.excel.EasyExcelFactory;
+import com.alibaba.excel.ExcelWriter;
 import com.alibaba.excel.write.builder.ExcelWriterBuilder;
-import com.alibaba.excel.write.builder.ExcelWriterSheetBuilder;
 import com.alibaba.excel.write.handler.WriteHandler;
+import com.alibaba.excel.write.metadata.WriteSheet;
 import com.alibaba.excel.write.style.row.SimpleRowHeightStyleStrategy;
 import io.githhub.youngerier.office.ExcelDocumentWriter;
+import io.githhub.youngerier.office.SheetRolloverPolicy;
 import io.githhub.youngerier.office.metadata.ExcelCellDescriptor;
+import io.github.youngerier.support.AssertUtils;
+import org.springframework.lang.Nullable;
 
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
  * 基于 easyexcel 的 excel writer
+ * <p>
+ * 写入的行先格式化到缓冲区，缓冲区达到 flushSize 行时写入 sheet 并清空，
+ * 内存占用只与 flushSize（及单次写入的批大小）有关，与导出总行数无关。
+ * 单个 sheet 的行数达到 {@link SheetRolloverPolicy} 的上限后自动新建 sheet 继续写入，表头在每个 sheet 重复。
+ * 指定 formatPool 时每批行数据拆分到该线程池中并行格式化，写入顺序不变。
+ * <p>
+ * 开启 typedCells 后没有 printer 或配置了数据格式的列按原值类型写为数值、布尔、日期单元格，可以直接在 excel 中计算，
+ * 日期单元格使用描述符配置的数据格式；行缓冲区在写入 sheet 后回收复用。
+ * <p>
+ * 构建时即打开 workbook（及 SXSSF 临时文件），必须以 {@link #finish()} 或 {@link #abort()} 结束以释放资源。
+ * <p>
+ * 开启 sharedStrings 后使用共享字符串表写入文本，相同的文本在文件中只保存一次，适合枚举、布尔等低基数列较多的大数据量导出。
  *
  * @github https://github.com/alibaba/easyexcel
  **/
 public class DefaultEasyExcelDocumentWriter implements ExcelDocumentWriter {
 
-    private final List<Object> rows;
+    /**
+     * 默认的缓冲行数
+     */
+    private static final int DEFAULT_FLUSH_SIZE = 1000;
 
-    private final ExcelWriterSheetBuilder sheetBuilder;
+    /**
+     * 默认的 sheet 名称
+     */
+    private static final String DEFAULT_SHEET_NAME = "Sheet1";
+
+    private final List<List<?>> buffer;
+
+    /**
+     * 已写入 sheet、可以复用的行缓冲区，仅 typedCells 模式使用
+     */
+    private final Deque<List<Object>> recycledRows;
+
+    private final ExcelWriter excelWriter;
+
+    private final SheetRolloverPolicy rolloverPolicy;
+
+    /**
+     * 当前写入的 sheet
+     */
+    private WriteSheet writeSheet;
+
+    /**
+     * 当前 sheet 的序号，从 0 开始
+     */
+    private int sheetSequence;
+
+    /**
+     * 当前 sheet 已写入的数据行数
+     */
+    private int sheetRows;
 
     private final SpringExpressionRowDataFormatter formatter;
 
-    private DefaultEasyExcelDocumentWriter(List<ExcelCellDescriptor> descriptors, ExcelWriterSheetBuilder sheetBuilder) {
-        this.rows = new ArrayList<>(2000);
-        this.sheetBuilder = sheetBuilder;
+    private final int flushSize;
+
+    /**
+     * 并行格式化使用的线程池，为 null 时在写入线程格式化
+     */
+    @Nullable
+    private final ForkJoinPool formatPool;
+
+    /**
+     * 是否按值类型写入单元格，为 false 时所有单元格写为文本
+     */
+    private final boolean typedCells;
+
+    /**
+     * 是否已经结束写入（完成或放弃）
+     */
+    private boolean closed;
+
+    private DefaultEasyExcelDocumentWriter(List<ExcelCellDescriptor> descriptors, ExcelWriter excelWriter, int flushSize,
+                                           SheetRolloverPolicy rolloverPolicy, @Nullable ForkJoinPool formatPool, boolean typedCells) {
+        AssertUtils.isTrue(flushSize > 0, "argument flushSize must greater than 0");
+        this.buffer = new ArrayList<>(flushSize);
+        this.recycledRows = new ArrayDeque<>(typedCells ? flushSize : 0);
+        this.excelWriter = excelWriter;
+        this.rolloverPolicy = rolloverPolicy;
+        this.writeSheet = newSheet(0);
         this.formatter = new SpringExpressionRowDataFormatter(descriptors);
+        this.flushSize = flushSize;
+        this.formatPool = formatPool;
+        this.typedCells = typedCells;
     }
 
     public static DefaultEasyExcelDocumentWriter of(OutputStream output, List<ExcelCellDescriptor> descriptors) {
-        List<WriteHandler> handlers = Arrays.asList(
+        return builder(output, descriptors).build();
+    }
+
+    public static DefaultEasyExcelDocumentWriter of(OutputStream output, List<ExcelCellDescriptor> descriptors, Collection<WriteHandler> handlers) {
+        return builder(output, descriptors).handlers(handlers).build();
+    }
+
+    public static DefaultEasyExcelDocumentWriter of(OutputStream output, List<ExcelCellDescriptor> descriptors, int flushSize) {
+        return builder(output, descriptors).flushSize(flushSize).build();
+    }
+
+    public static DefaultEasyExcelDocumentWriter of(OutputStream output, List<ExcelCellDescriptor> descriptors, Collection<WriteHandler> handlers, int flushSize) {
+        return builder(output, descriptors).handlers(handlers).flushSize(flushSize).build();
+    }
+
+    public static DefaultEasyExcelDocumentWriter of(OutputStream output, List<ExcelCellDescriptor> descriptors, Collection<WriteHandler> handlers,
+                                                    int flushSize, SheetRolloverPolicy rolloverPolicy) {
+        return builder(output, descriptors).handlers(handlers).flushSize(flushSize).rollover(rolloverPolicy).build();
+    }
+
+    /**
+     * @param formatPool 并行格式化使用的线程池，如 {@link ForkJoinPool#commonPool()}，为 null 时不并行格式化
+     */
+    public static DefaultEasyExcelDocumentWriter of(OutputStream output, List<ExcelCellDescriptor> descriptors, Collection<WriteHandler> handlers,
+                                                    int flushSize, SheetRolloverPolicy rolloverPolicy, @Nullable ForkJoinPool formatPool) {
+        return builder(output, descriptors).handlers(handlers).flushSize(flushSize).rollover(rolloverPolicy).formatPool(formatPool).build();
+    }
+
+    public static DefaultEasyExcelDocumentWriterBuilder builder(OutputStream output, List<ExcelCellDescriptor> descriptors) {
+        return new DefaultEasyExcelDocumentWriterBuilder(output, descriptors);
+    }
+
+    private static List<WriteHandler> defaultHandlers(List<ExcelCellDescriptor> descriptors) {
+        return Arrays.asList(
                 new CustomHeadColumnWidthStyleStrategy(descriptors),
                 new SimpleRowHeightStyleStrategy((short) 25, (short) 25));
-        return of(output, descriptors, handlers);
     }
 
-    public static DefaultEasyExcelDocumentWriter of(OutputStream output, List<ExcelCellDescriptor> descriptors, Collection<WriteHandler> handlers) {
-        List<String> titles = descriptors.stream().map(ExcelCellDescriptor::getTitle).collect(Collectors.toList());
-        ExcelWriterBuilder builder = new ExcelWriterBuilder();
-        builder.file(output)
-                .head(titles.stream().map(Collections::singletonList).collect(Collectors.toList()))
-                .needHead(true)
-                .charset(StandardCharsets.UTF_8);
-        for (WriteHandler handler : handlers) {
-            builder.registerWriteHandler(handler);
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(Collection<Object> rows) {
+        if (formatPool != null) {
+            buffer.addAll((Collection<List<?>>) prepare(rows));
+        } else if (typedCells) {
+            for (Object row : rows) {
+                List<Object> cells = recycledRows.poll();
+                buffer.add(cells == null ? formatter.formatTypedRow(row) : formatter.formatTypedRow(row, cells));
+            }
+        } else {
+            for (Object row : rows) {
+                buffer.add(formatter.formatRows(row));
+            }
+        }
+        if (buffer.size() >= flushSize) {
+            flush();
         }
-        return new DefaultEasyExcelDocumentWriter(descriptors, builder.sheet());
     }
 
+    /**
+     * 格式化行数据，只读取共享的 formatter，可以在多个线程中并发调用
+     */
     @Override
-    public void write(Collection<Object> rows) {
-        this.rows.addAll(rows.stream().map(formatter::formatRows).collect(Collectors.toList()));
+    public Collection<?> prepare(Collection<Object> rows) {
+        if (typedCells) {
+            return formatter.formatTypedRows(asList(rows), formatPool);
+        }
+        return formatter.formatRows(asList(rows), formatPool);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writePrepared(Collection<?> preparedRows) {
+        buffer.addAll((Collection<List<?>>) preparedRows);
+        if (buffer.size() >= flushSize) {
+            flush();
+        }
     }
 
     @Override
     public void finish() {
-        sheetBuilder.doWrite(rows);
-        rows.clear();
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+            if (sheetSequence == 0 && sheetRows == 0) {
+                // 没有数据时输出只有表头的 sheet
+                excelWriter.write(Collections.emptyList(), writeSheet);
+            }
+        } catch (RuntimeException | Error e) {
+            abort();
+            throw e;
+        }
+        closed = true;
+        excelWriter.finish();
+    }
+
+    /**
+     * 放弃写入：不输出 workbook，删除 SXSSF 临时文件并关闭输出流
+     */
+    @Override
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        recycledRows.clear();
+        excelWriter.writeContext().finish(true);
+    }
+
+    /**
+     * 将缓冲区中的行写入 sheet，超出当前 sheet 剩余行数的部分写入新的 sheet
+     */
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        int offset = 0;
+        while (offset < buffer.size()) {
+            if (sheetRows == rolloverPolicy.getMaxRowsPerSheet()) {
+                sheetSequence++;
+                writeSheet = newSheet(sheetSequence);
+                sheetRows = 0;
+            }
+            int count = Math.min(buffer.size() - offset, rolloverPolicy.getMaxRowsPerSheet() - sheetRows);
+            excelWriter.write(buffer.subList(offset, offset + count), writeSheet);
+            sheetRows += count;
+            offset += count;
+        }
+        if (typedCells) {
+            // 行数据已写入 sheet，行缓冲区可以复用
+            for (int i = 0; i < buffer.size() && recycledRows.size() < flushSize; i++) {
+                recycledRows.add((List<Object>) buffer.get(i));
+            }
+        }
+        buffer.clear();
+    }
+
+    private static List<?> asList(Collection<Object> rows) {
+        return rows instanceof List<?> list && list instanceof RandomAccess ? list : new ArrayList<>(rows);
+    }
+
+    private WriteSheet newSheet(int sequence) {
+        return EasyExcelFactory.writerSheet(sequence, rolloverPolicy.sheetName(DEFAULT_SHEET_NAME, sequence)).build();
+    }
+
+    public static class DefaultEasyExcelDocumentWriterBuilder {
+
+        private final OutputStream output;
+
+        private final List<ExcelCellDescriptor> descriptors;
+
+        private Collection<WriteHandler> handlers;
+
+        private int flushSize = DEFAULT_FLUSH_SIZE;
+
+        private SheetRolloverPolicy rolloverPolicy = SheetRolloverPolicy.defaults();
+
+        private ForkJoinPool formatPool;
+
+        private boolean typedCells;
+
+        private boolean sharedStrings;
+
+        private DefaultEasyExcelDocumentWriterBuilder(OutputStream output, List<ExcelCellDescriptor> descriptors) {
+            this.output = output;
+            this.descriptors = descriptors;
+        }
+
+        public DefaultEasyExcelDocumentWriterBuilder handlers(Collection<WriteHandler> handlers) {
+            this.handlers = handlers;
+            return this;
+        }
+
+        public DefaultEasyExcelDocumentWriterBuilder flushSize(int flushSize) {
+            this.flushSize = flushSize;
+            return this;
+        }
+
+        public DefaultEasyExcelDocumentWriterBuilder rollover(SheetRolloverPolicy rolloverPolicy) {
+            this.rolloverPolicy = rolloverPolicy;
+            return this;
+        }
+
+        /**
+         * @param formatPool 并行格式化使用的线程池，如 {@link ForkJoinPool#commonPool()}，为 null 时不并行格式化
+         * @return this
+         */
+        public DefaultEasyExcelDocumentWriterBuilder formatPool(@Nullable ForkJoinPool formatPool) {
+            this.formatPool = formatPool;
+            return this;
+        }
+
+        /**
+         * 没有 printer 或配置了数据格式的列按原值类型写入单元格（数值、布尔、日期），其余列仍写为 printer 输出的文本
+         *
+         * @param typedCells 是否按值类型写入单元格
+         * @return this
+         */
+        public DefaultEasyExcelDocumentWriterBuilder typedCells(boolean typedCells) {
+            this.typedCells = typedCells;
+            return this;
+        }
+
+        /**
+         * 使用共享字符串表写入文本单元格，作用于整个文件；共享字符串表常驻内存，高基数文本列较多时不建议开启
+         *
+         * @param sharedStrings 是否使用共享字符串表
+         * @return this
+         */
+        public DefaultEasyExcelDocumentWriterBuilder sharedStrings(boolean sharedStrings) {
+            this.sharedStrings = sharedStrings;
+            return this;
+        }
+
+        public DefaultEasyExcelDocumentWriter build() {
+            List<String> titles = descriptors.stream().map(ExcelCellDescriptor::getTitle).collect(Collectors.toList());
+            ExcelWriterBuilder builder = new ExcelWriterBuilder();
+            builder.file(output)
+                    .head(titles.stream().map(Collections::singletonList).collect(Collectors.toList()))
+                    .needHead(true)
+                    .charset(StandardCharsets.UTF_8);
+            for (WriteHandler handler : handlers == null ? defaultHandlers(descriptors) : handlers) {
+                builder.registerWriteHandler(handler);
+            }
+            if (sharedStrings) {
+                builder.registerWriteHandler(new SharedStringsWorkbookWriteHandler());
+            }
+            CellDataFormatWriteHandler dataFormatHandler = new CellDataFormatWriteHandler(descriptors);
+            if (typedCells && dataFormatHandler.hasDataFormats()) {
+                builder.registerWriteHandler(dataFormatHandler);
+            }
+            return new DefaultEasyExcelDocumentWriter(descriptors, builder.build(), flushSize, rolloverPolicy, formatPool, typedCells);
+        }
     }
 
 }
@@ -80,6 +80,16 @@ public class ExportExcelTaskInfo implements OfficeDocumentTaskInfo {
         rowSize.addAndGet(rows.size());
     }
 
+    /**
+     * 写入 {@link ExcelDocumentWriter#prepare(Collection)} 预处理后的行数据
+     *
+     * @param preparedRows 预处理后的行数据
+     */
+    public void addPreparedRows(Collection<?> preparedRows) {
+        writer.writePrepared(preparedRows);
+        rowSize.addAndGet(preparedRows.size());
+    }
+
     @Override
     public void addFailedRows(Collection<Object> rows) {
         writer.write(rows);
@@ -94,6 +104,9 @@ public class ExportExcelTaskInfo implements OfficeDocumentTaskInfo {
         if (OfficeTaskState.isFinished(newState)) {
             if (Objects.equals(newState, OfficeTaskState.COMPLETED)) {
                 writer.finish();
+            } else {
+                // 失败、中断或取消时释放 writer 占用的资源
+                writer.abort();
             }
             this.endTime.set(LocalDateTime.now());
         }
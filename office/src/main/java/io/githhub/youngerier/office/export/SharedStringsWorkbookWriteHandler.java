@@ -0,0 +1,31 @@
+package io.githhub.youngerier.office.export;
+
+import com.alibaba.excel.write.handler.WorkbookWriteHandler;
+import com.alibaba.excel.write.handler.context.WorkbookWriteHandlerContext;
+import com.alibaba.excel.write.metadata.holder.WriteWorkbookHolder;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * 将 EasyExcel 创建的 {@link SXSSFWorkbook} 替换为使用共享字符串表的实例
+ * <p>
+ * SXSSF 默认把字符串内联写入每个单元格，枚举、布尔这类低基数列的相同文本会重复写入上百万次；
+ * 使用共享字符串表后相同文本只保存一次，单元格只写入索引。共享字符串表常驻内存，
+ * 高基数的文本列（如备注、地址）会使内存随行数增长，只适合文本列以低基数为主的导出。
+ *
+ **/
+final class SharedStringsWorkbookWriteHandler implements WorkbookWriteHandler {
+
+    @Override
+    public void afterWorkbookCreate(WorkbookWriteHandlerContext context) {
+        WriteWorkbookHolder holder = context.getWriteWorkbookHolder();
+        if (!(holder.getWorkbook() instanceof SXSSFWorkbook workbook) || holder.getCachedWorkbook() != workbook) {
+            // 内存模式或基于模板创建的 workbook 不处理
+            return;
+        }
+        // 沿用 EasyExcel 创建时的行窗口大小与临时文件压缩设置，只开启共享字符串表
+        SXSSFWorkbook result = new SXSSFWorkbook(null, workbook.getRandomAccessWindowSize(), workbook.isCompressTempFiles(), true);
+        workbook.dispose();
+        holder.setCachedWorkbook(result);
+        holder.setWorkbook(result);
+    }
+}
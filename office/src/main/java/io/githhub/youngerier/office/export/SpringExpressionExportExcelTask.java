@@ -2,19 +2,51 @@ package io.githhub.youngerier.office.export;
 
 import io.githhub.youngerier.office.AbstractDelegateDocumentTask;
 import io.githhub.youngerier.office.ExportExcelDataFetcher;
+import io.githhub.youngerier.office.KeysetExcelDataFetcher;
 import io.githhub.youngerier.office.OfficeTaskState;
+import io.github.youngerier.support.AssertUtils;
+import io.github.youngerier.support.concurrent.AsyncExecutors;
+import io.github.youngerier.support.exception.BaseException;
+import io.github.youngerier.support.exception.DefaultExceptionCode;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
  * 基于 spring expression 取值 excel 导出任务，不支持列合并等操作
+ * <p>
+ * prefetchPages 大于 0 时使用流水线模式：生产者在每个任务独占的守护线程上预先抓取后续页，
+ * 放入容量为 prefetchPages 的有界队列，当前线程同时格式化并写入已抓取的页；队列满时生产者阻塞，形成背压。
+ * 生产者不提交到共享执行器，执行器饱和或在调用线程上执行任务时，生产者会阻塞在满队列上而导致任务无法结束。
+ * <p>
+ * parallelism 大于 1 且 {@link ExportExcelDataFetcher#count()} 返回总数时使用并行模式：按总数划分页，
+ * 最多 parallelism 个页同时抓取并通过 {@link io.githhub.youngerier.office.ExcelDocumentWriter#prepare(Collection)} 格式化，
+ * 完成的页在重排序缓冲区中等待，按页码顺序写入。并行模式要求 fetcher 及列的 printer 线程安全。
+ * 页的划分以 count 时的总数为准，统计的最后一页是满页时继续按顺序抓取后续页，count 之后追加的数据不会丢失；
+ * 但各页按 OFFSET 并发抓取，导出期间插入或删除排序靠前的数据会使页边界移动，导致行重复或遗漏，
+ * 因此并行模式只适合导出期间不变的数据，数据持续变化时应使用游标（{@link #keyset}）导出。
  *
  **/
 @Slf4j
 public class SpringExpressionExportExcelTask extends AbstractDelegateDocumentTask {
 
+    /**
+     * 流水线模式下表示数据已抓取完毕的标记
+     */
+    private static final List<Object> END_OF_DATA = new ArrayList<>(0);
+
     private final ExportExcelDataFetcher<?> fetcher;
 
     /**
@@ -25,46 +57,230 @@ public class SpringExpressionExportExcelTask extends AbstractDelegateDocumentTas
      */
     private final Function<String, OfficeTaskState> stateSyncer;
 
+    /**
+     * 预先抓取的页数，为 0 时按页顺序抓取与写入
+     */
+    private final int prefetchPages;
+
+    /**
+     * 并行抓取的最大页数，为 1 时不使用并行模式
+     */
+    private final int parallelism;
+
     public SpringExpressionExportExcelTask(ExportExcelTaskInfo taskInfo, ExportExcelDataFetcher<?> fetcher) {
         this(taskInfo, fetcher, id -> null);
     }
 
     public SpringExpressionExportExcelTask(ExportExcelTaskInfo taskInfo, ExportExcelDataFetcher<?> fetcher,
                                            Function<String, OfficeTaskState> stateSyncer) {
+        this(taskInfo, fetcher, stateSyncer, 0);
+    }
+
+    public SpringExpressionExportExcelTask(ExportExcelTaskInfo taskInfo, ExportExcelDataFetcher<?> fetcher,
+                                           Function<String, OfficeTaskState> stateSyncer, int prefetchPages) {
+        this(taskInfo, fetcher, stateSyncer, prefetchPages, 1);
+    }
+
+    /**
+     * @param prefetchPages 总数未知时预先抓取的页数
+     * @param parallelism   总数已知时并行抓取的最大页数
+     */
+    public SpringExpressionExportExcelTask(ExportExcelTaskInfo taskInfo, ExportExcelDataFetcher<?> fetcher,
+                                           Function<String, OfficeTaskState> stateSyncer, int prefetchPages, int parallelism) {
         super(taskInfo);
+        AssertUtils.isTrue(prefetchPages >= 0, "argument prefetchPages must not be negative");
+        AssertUtils.isTrue(parallelism > 0, "argument parallelism must greater than 0");
         this.fetcher = fetcher;
         this.stateSyncer = stateSyncer;
+        this.prefetchPages = prefetchPages;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 创建按游标抓取数据的导出任务，游标 fetcher 没有总数，只能使用顺序或流水线模式
+     *
+     * @param prefetchPages 预先抓取的页数
+     */
+    public static SpringExpressionExportExcelTask keyset(ExportExcelTaskInfo taskInfo, KeysetExcelDataFetcher<?> fetcher,
+                                                         Function<String, OfficeTaskState> stateSyncer, int prefetchPages) {
+        return new SpringExpressionExportExcelTask(taskInfo, fetcher.asPageFetcher(), stateSyncer, prefetchPages);
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     protected void doTask() {
-        int queryPage = 1;
         ExportExcelTaskInfo taskInfo = (ExportExcelTaskInfo) getDelegate();
+        try {
+            int total = parallelism > 1 ? fetcher.count() : ExportExcelDataFetcher.DEFAULT_TOTAL;
+            if (total != ExportExcelDataFetcher.DEFAULT_TOTAL) {
+                doParallelTask(taskInfo, total, AsyncExecutors.get());
+            } else if (prefetchPages > 0) {
+                doPipelinedTask(taskInfo);
+            } else {
+                doSequentialTask(taskInfo, 1);
+            }
+        } finally {
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("excel task is interrupted，id = {}, state = {}", getId(), getState());
+                taskInfo.updateState(OfficeTaskState.INTERRUPT);
+            }
+        }
+    }
+
+    /**
+     * 从 startPage 开始按页顺序抓取与写入，直到返回的页不满
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void doSequentialTask(ExportExcelTaskInfo taskInfo, int startPage) {
+        int queryPage = startPage;
+        while (!Thread.currentThread().isInterrupted()) {
+            syncState();
+            List rows = fetcher.fetch(queryPage, taskInfo.getFetchSize());
+            this.addRows(rows);
+            if (OfficeTaskState.isFinished(getState())) {
+                log.info("excel task is finished，id = {}, state = {}", getId(), getState());
+                return;
+            }
+            if (rows.size() < taskInfo.getFetchSize()) {
+                // 处理完成
+                break;
+            }
+            queryPage++;
+        }
+    }
+
+    /**
+     * 流水线模式：生产者抓取第 N+1 页的同时，当前线程格式化并写入第 N 页
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void doPipelinedTask(ExportExcelTaskInfo taskInfo) {
+        BlockingQueue<List<?>> queue = new ArrayBlockingQueue<>(prefetchPages);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        FutureTask<Void> producer = new FutureTask<>(() -> {
+            try {
+                int queryPage = 1;
+                while (!Thread.currentThread().isInterrupted()) {
+                    List<?> rows = fetcher.fetch(queryPage, taskInfo.getFetchSize());
+                    // 队列满时阻塞，等待写入跟上
+                    queue.put(rows);
+                    if (rows.size() < taskInfo.getFetchSize()) {
+                        break;
+                    }
+                    queryPage++;
+                }
+                queue.put(END_OF_DATA);
+            } catch (InterruptedException e) {
+                // 消费者已退出
+                Thread.currentThread().interrupt();
+            } catch (Throwable throwable) {
+                failure.set(throwable);
+                putEndOfData(queue);
+            }
+        }, null);
+        Thread producerThread = new Thread(producer, "excel-export-prefetch-" + getId());
+        producerThread.setDaemon(true);
+        producerThread.start();
         try {
             while (!Thread.currentThread().isInterrupted()) {
-                OfficeTaskState state = stateSyncer.apply(getId());
-                if (state != null) {
-                    updateState(state);
+                syncState();
+                if (OfficeTaskState.isFinished(getState())) {
+                    log.info("excel task is finished，id = {}, state = {}", getId(), getState());
+                    return;
+                }
+                List rows = queue.take();
+                if (rows == END_OF_DATA) {
+                    rethrowFailure(failure.get());
+                    break;
                 }
-                List rows = fetcher.fetch(queryPage, taskInfo.getFetchSize());
                 this.addRows(rows);
                 if (OfficeTaskState.isFinished(getState())) {
                     log.info("excel task is finished，id = {}, state = {}", getId(), getState());
                     return;
                 }
-                if (rows.size() < taskInfo.getFetchSize()) {
-                    // 处理完成
-                    break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 任务结束、取消或失败时停止预取，并释放队列中已抓取的数据
+            producer.cancel(true);
+            queue.clear();
+        }
+    }
+
+    /**
+     * 并行模式：按总数划分页，保持最多 parallelism 个页在途，按页码顺序写入；
+     * 统计的最后一页是满页（或总数为 0）时，说明 count 之后可能追加了数据，继续按顺序抓取后续页
+     */
+    @SuppressWarnings("unchecked")
+    private void doParallelTask(ExportExcelTaskInfo taskInfo, int total, Executor executor) {
+        int fetchSize = taskInfo.getFetchSize();
+        int totalPages = (int) ((total + (long) fetchSize - 1) / fetchSize);
+        // 重排序缓冲区：按页码顺序保存在途的页，先完成的页在此等待前面的页写入
+        Deque<Future<Collection<?>>> pending = new ArrayDeque<>(parallelism);
+        int nextPage = 1;
+        boolean lastPageFull = true;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                while (pending.size() < parallelism && nextPage <= totalPages) {
+                    int queryPage = nextPage++;
+                    FutureTask<Collection<?>> page = new FutureTask<>(() ->
+                            taskInfo.getWriter().prepare((List<Object>) fetcher.fetch(queryPage, fetchSize)));
+                    executor.execute(page);
+                    pending.addLast(page);
                 }
-                queryPage++;
+                if (pending.isEmpty()) {
+                    if (lastPageFull) {
+                        doSequentialTask(taskInfo, nextPage);
+                    }
+                    return;
+                }
+                syncState();
+                if (OfficeTaskState.isFinished(getState())) {
+                    log.info("excel task is finished，id = {}, state = {}", getId(), getState());
+                    return;
+                }
+                Collection<?> preparedRows = pending.peekFirst().get();
+                taskInfo.addPreparedRows(preparedRows);
+                pending.removeFirst();
+                lastPageFull = preparedRows.size() >= fetchSize;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            rethrowFailure(e.getCause());
         } finally {
-            if (Thread.currentThread().isInterrupted()) {
-                log.info("excel task is interrupted，id = {}, state = {}", getId(), getState());
-                taskInfo.updateState(OfficeTaskState.INTERRUPT);
+            // 任务结束、取消或失败时停止未完成的页
+            for (Future<Collection<?>> page : pending) {
+                page.cancel(true);
             }
         }
     }
 
+    private static void putEndOfData(BlockingQueue<List<?>> queue) {
+        try {
+            queue.put(END_OF_DATA);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void syncState() {
+        OfficeTaskState state = stateSyncer.apply(getId());
+        if (state != null) {
+            updateState(state);
+        }
+    }
+
+    private static void rethrowFailure(Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new BaseException(DefaultExceptionCode.COMMON_ERROR, "fetch export data error", failure);
+    }
+
 }
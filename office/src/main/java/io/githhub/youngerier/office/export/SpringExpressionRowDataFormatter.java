@@ -1,63 +1,269 @@
 package io.githhub.youngerier.office.export;
 
+import io.githhub.youngerier.office.ExcelCellQuickBuilder;
+import io.githhub.youngerier.office.metadata.CellValueExtractor;
 import io.githhub.youngerier.office.metadata.ExcelCellDescriptor;
 import io.githhub.youngerier.office.metadata.ExcelCellPrinter;
+import io.githhub.youngerier.office.metadata.PropertyPathValueExtractor;
 import io.github.youngerier.support.constants.Constants;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.format.Printer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
 
 /**
  * Spring Expression 数据格式化
- *
+ * <p>
+ * 取值顺序：描述符上预先绑定的取值器（{@link ExcelCellQuickBuilder} 构建的描述符默认绑定属性 getter），
+ * 其次简单属性路径使用 {@link PropertyPathValueExtractor}，其余表达式使用 Spring Expression。
+ * <p>
+ * 表达式在构造时解析一次，并以 {@link SpelCompilerMode#MIXED} 模式编译：前若干次解释执行，之后切换为字节码访问，
+ * 遇到类型不一致的行时自动回退到解释执行。求值上下文在所有行之间复用，每行只替换根对象。
+ * <p>
+ * 格式化不修改共享状态，可以通过 {@link #formatRows(List, ForkJoinPool)} 将一批行拆分到 {@link ForkJoinPool} 中并行格式化，
+ * 此时列的 printer 需要线程安全。
+ * <p>
+ * {@link #formatTypedRow(Object, List)} 输出带类型的单元格：没有 printer 或配置了数据格式（{@link ExcelCellDescriptor#getDataFormat()}）
+ * 的列保留数值、布尔、日期等原值，由 EasyExcel 写为对应类型的单元格，不再为每个值创建字符串。
  **/
-@AllArgsConstructor
 public class SpringExpressionRowDataFormatter {
 
+    /**
+     * 并行格式化时每个子任务处理的最大行数，小于该值的批次直接在当前线程格式化
+     */
+    private static final int PARALLEL_BATCH_SIZE = 256;
+
+    /**
+     * EasyExcel 可以直接写为数值、布尔、日期单元格的类型，按具体类型匹配（EasyExcel 的 converter 按类型精确查找）
+     */
+    private static final Set<Class<?>> NATIVE_CELL_TYPES = Set.of(
+            String.class, Boolean.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+            Date.class, LocalDate.class, LocalDateTime.class);
+
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, SpringExpressionRowDataFormatter.class.getClassLoader()));
+
     @Getter
     private final List<ExcelCellDescriptor> cellDescriptors;
 
-    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    /**
+     * 与 cellDescriptors 一一对应的已解析表达式，为 null 时取整行数据
+     */
+    private final Expression[] expressions;
+
+    /**
+     * 与 cellDescriptors 一一对应的取值器，为 null 时使用表达式求值
+     */
+    private final CellValueExtractor[] extractors;
+
+    /**
+     * 与 cellDescriptors 一一对应的 printer
+     */
+    private final List<Printer<Object>> printers;
+
+    /**
+     * 与 cellDescriptors 一一对应，按类型格式化时是否保留原值
+     */
+    private final boolean[] nativeColumns;
 
+    /**
+     * 复用的求值上下文，通过 {@link Expression#getValue(org.springframework.expression.EvaluationContext, Object)} 传入每行的根对象，
+     * 上下文本身不保存行数据
+     */
+    private final StandardEvaluationContext context;
+
+    public SpringExpressionRowDataFormatter(List<ExcelCellDescriptor> cellDescriptors) {
+        this.cellDescriptors = cellDescriptors;
+        this.expressions = new Expression[cellDescriptors.size()];
+        this.extractors = new CellValueExtractor[cellDescriptors.size()];
+        this.printers = new ArrayList<>(cellDescriptors.size());
+        this.nativeColumns = new boolean[cellDescriptors.size()];
+        for (int i = 0; i < cellDescriptors.size(); i++) {
+            ExcelCellDescriptor descriptor = cellDescriptors.get(i);
+            String expression = descriptor.getExpression();
+            this.expressions[i] = StringUtils.hasText(expression) ? PARSER.parseExpression(expression) : null;
+            CellValueExtractor extractor = descriptor.getExtractor();
+            this.extractors[i] = extractor == null && PropertyPathValueExtractor.isPropertyPath(expression)
+                    ? PropertyPathValueExtractor.of(expression) : extractor;
+            this.printers.add(descriptor.getPrinter());
+            this.nativeColumns[i] = !descriptor.hasPrinter() || descriptor.getDataFormat() != null;
+        }
+        this.context = new StandardEvaluationContext();
+        // 提前初始化延迟创建的访问器列表，避免多线程首次求值时的竞争
+        this.context.getPropertyAccessors();
+        this.context.getMethodResolvers();
+        this.context.getConstructorResolvers();
+    }
 
     public static SpringExpressionRowDataFormatter of(List<ExcelCellDescriptor> cellDescriptors) {
         return new SpringExpressionRowDataFormatter(cellDescriptors);
     }
 
     public List<String> formatRows(Object row) {
-        List<String> result = new ArrayList<>();
-        if (row instanceof Collection<?>) {
+        if (row instanceof Collection<?> cells) {
             // 集合
-            return ((Collection<?>) row).stream().map(String::valueOf).collect(java.util.stream.Collectors.toList());
-        } else {
-            EvaluationContext context = new StandardEvaluationContext(row);
-            for (ExcelCellDescriptor descriptor : cellDescriptors) {
-                String expression = descriptor.getExpression();
-                Object cellValue = StringUtils.hasText(expression) ? PARSER.parseExpression(expression).getValue(context) : row;
-                result.add(formatCellValue(descriptor, row, cellValue));
+            List<String> result = new ArrayList<>(cells.size());
+            for (Object cell : cells) {
+                result.add(String.valueOf(cell));
             }
             return result;
         }
+        List<String> result = new ArrayList<>(expressions.length);
+        Locale locale = Locale.getDefault();
+        for (int i = 0; i < expressions.length; i++) {
+            result.add(formatCellValue(i, row, extractCellValue(i, row), locale));
+        }
+        return result;
+    }
+
+    /**
+     * 格式化一批行数据
+     *
+     * @param rows 行数据
+     * @param pool 并行格式化使用的线程池，为 null 时在当前线程格式化
+     * @return 格式化结果，顺序与 rows 一致
+     */
+    public List<List<String>> formatRows(List<?> rows, @Nullable ForkJoinPool pool) {
+        return formatRows(rows, pool, this::formatRows);
+    }
+
+    /**
+     * 按单元格类型格式化行数据
+     *
+     * @param row    行数据
+     * @param target 写入结果的行缓冲区，会先被清空，可以在多行之间复用
+     * @return target，值为 null 的单元格写为空单元格
+     */
+    public List<Object> formatTypedRow(Object row, List<Object> target) {
+        target.clear();
+        if (row instanceof Collection<?> cells) {
+            // 集合
+            for (Object cell : cells) {
+                target.add(toNativeCellValue(cell));
+            }
+            return target;
+        }
+        Locale locale = Locale.getDefault();
+        for (int i = 0; i < expressions.length; i++) {
+            Object cellValue = extractCellValue(i, row);
+            target.add(nativeColumns[i] ? toNativeCellValue(cellValue) : formatCellValue(i, row, cellValue, locale));
+        }
+        return target;
+    }
+
+    public List<Object> formatTypedRow(Object row) {
+        return formatTypedRow(row, new ArrayList<>(expressions.length));
+    }
+
+    /**
+     * 按单元格类型格式化一批行数据
+     *
+     * @param rows 行数据
+     * @param pool 并行格式化使用的线程池，为 null 时在当前线程格式化
+     * @return 格式化结果，顺序与 rows 一致
+     */
+    public List<List<Object>> formatTypedRows(List<?> rows, @Nullable ForkJoinPool pool) {
+        return formatRows(rows, pool, this::formatTypedRow);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> List<R> formatRows(List<?> rows, @Nullable ForkJoinPool pool, Function<Object, R> rowFormatter) {
+        Object[] result = new Object[rows.size()];
+        if (pool == null || rows.size() <= PARALLEL_BATCH_SIZE) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = rowFormatter.apply(rows.get(i));
+            }
+        } else {
+            pool.invoke(new FormatRowsAction(rows, result, rowFormatter, 0, result.length));
+        }
+        return (List<R>) Arrays.asList(result);
+    }
+
+    @Nullable
+    private static Object toNativeCellValue(@Nullable Object cellValue) {
+        if (cellValue == null || NATIVE_CELL_TYPES.contains(cellValue.getClass())) {
+            return cellValue;
+        }
+        return String.valueOf(cellValue);
+    }
+
+    private Object extractCellValue(int index, Object row) {
+        CellValueExtractor extractor = extractors[index];
+        if (extractor != null && extractor.supports(row)) {
+            return extractor.extract(row);
+        }
+        Expression expression = expressions[index];
+        return expression == null ? row : expression.getValue(context, row);
     }
 
-    private String formatCellValue(ExcelCellDescriptor descriptor, Object row, Object cellValue) {
+    @SuppressWarnings("unchecked")
+    private String formatCellValue(int index, Object row, Object cellValue, Locale locale) {
         if (cellValue == null) {
             return Constants.EMPTY;
         }
-        Printer<Object> printer = descriptor.getPrinter();
+        Printer<Object> printer = printers.get(index);
         if (printer instanceof ExcelCellPrinter) {
-            return ((ExcelCellPrinter<Object>) printer).print(cellValue, descriptor.getExpression(), row, Locale.getDefault());
+            return ((ExcelCellPrinter<Object>) printer).print(cellValue, cellDescriptors.get(index).getExpression(), row, locale);
+        }
+        return printer.print(cellValue, locale);
+    }
+
+    /**
+     * 按行区间二分拆分的格式化任务，每行的结果写入对应下标，保持行顺序
+     */
+    private static final class FormatRowsAction extends RecursiveAction {
+
+        private final List<?> rows;
+
+        private final Object[] result;
+
+        private final Function<Object, ?> rowFormatter;
+
+        private final int from;
+
+        private final int to;
+
+        FormatRowsAction(List<?> rows, Object[] result, Function<Object, ?> rowFormatter, int from, int to) {
+            this.rows = rows;
+            this.result = result;
+            this.rowFormatter = rowFormatter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    result[i] = rowFormatter.apply(rows.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FormatRowsAction(rows, result, rowFormatter, from, middle),
+                    new FormatRowsAction(rows, result, rowFormatter, middle, to));
         }
-        return printer.print(cellValue, Locale.getDefault());
     }
 }
@@ -0,0 +1,31 @@
+package io.githhub.youngerier.office.metadata;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * excel cell 取值器，从行数据中取出单元格的值
+ *
+ **/
+@FunctionalInterface
+public interface CellValueExtractor {
+
+    /**
+     * 取出单元格的值
+     *
+     * @param row 行数据
+     * @return 单元格的值
+     */
+    @Nullable
+    Object extract(@NotNull Object row);
+
+    /**
+     * 是否能从该行数据中取值，不能时由调用方回退到表达式求值
+     *
+     * @param row 行数据
+     * @return <code>true</code> 能取值
+     */
+    default boolean supports(@NotNull Object row) {
+        return true;
+    }
+}
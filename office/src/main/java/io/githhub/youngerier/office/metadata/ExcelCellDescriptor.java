@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.format.Parser;
 import org.springframework.format.Printer;
+import org.springframework.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -67,8 +68,33 @@ public final class ExcelCellDescriptor {
                 .orElseGet(() -> (value, locale) -> value);
     }
 
+    /**
+     * @return 预先绑定的取值器，为 null 时由表达式取值
+     */
+    @Nullable
+    public CellValueExtractor getExtractor() {
+        return findAttribute(CellExtractor.class)
+                .map(ExcelCellAttribute::getValue)
+                .orElse(null);
+    }
+
+    /**
+     * @return 是否配置了不为 null 的 printer
+     */
     public boolean hasPrinter() {
-        return findAttribute(CellPrinter.class).isPresent();
+        return findAttribute(CellPrinter.class)
+                .map(ExcelCellAttribute::getValue)
+                .isPresent();
+    }
+
+    /**
+     * @return 按原值写入单元格时使用的 excel 数据格式，如 yyyy-MM-dd；配置后 typedCells 模式下忽略 printer，按原值写入
+     */
+    @Nullable
+    public String getDataFormat() {
+        return findAttribute(CellDataFormat.class)
+                .map(ExcelCellAttribute::getValue)
+                .orElse(null);
     }
 
     @SuppressWarnings("unchecked")
@@ -130,6 +156,18 @@ public final class ExcelCellDescriptor {
             return this;
         }
 
+        public ExcelCellDescriptorBuilder dataFormat(String dataFormat) {
+            AssertUtils.isTrue(attributes.stream().noneMatch(CellDataFormat.class::isInstance), "DataFormat already exists");
+            this.attributes.add(new CellDataFormat(dataFormat));
+            return this;
+        }
+
+        public ExcelCellDescriptorBuilder extractor(CellValueExtractor extractor) {
+            AssertUtils.isTrue(attributes.stream().noneMatch(CellExtractor.class::isInstance), "Extractor already exists");
+            this.attributes.add(new CellExtractor(extractor));
+            return this;
+        }
+
         public ExcelCellDescriptorBuilder attributes(Collection<ExcelCellAttribute<?>> attributes) {
             this.attributes.addAll(attributes);
             return this;
@@ -155,6 +193,20 @@ public final class ExcelCellDescriptor {
         private final Printer value;
     }
 
+    @AllArgsConstructor
+    @Getter
+    private static class CellDataFormat implements ExcelCellAttribute<String> {
+
+        private final String value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class CellExtractor implements ExcelCellAttribute<CellValueExtractor> {
+
+        private final CellValueExtractor value;
+    }
+
     @AllArgsConstructor
     @Getter
     @SuppressWarnings({"rawtypes"})
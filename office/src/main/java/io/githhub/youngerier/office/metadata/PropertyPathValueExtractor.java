@@ -0,0 +1,216 @@
+package io.githhub.youngerier.office.metadata;
+
+import io.github.youngerier.support.exception.BaseException;
+import io.github.youngerier.support.exception.DefaultExceptionCode;
+import io.github.youngerier.support.util.WindReflectUtils;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 属性路径取值器，用于 "username"、"address.city" 这类简单属性路径，不经过 Spring Expression。
+ * <p>
+ * 每一级属性优先绑定为 {@link LambdaMetafactory} 生成的 getter，失败时回退到 {@link MethodHandle}；
+ * 没有 public getter 时通过 {@link WindReflectUtils#exchangeGetterHandle(Field)} 直接读取字段。
+ * 绑定结果按（行数据类型，属性路径）全局缓存并在取值器之间共享，每个组合只生成一次 getter 类，
+ * 避免每次构建描述符都定义新的隐藏类使 Metaspace 持续增长；缓存挂在行数据类型上，随类型一起卸载。
+ * 取值器记住最近一次使用的绑定，类型变化时从缓存中重新获取，无法绑定时 {@link #supports(Object)} 返回 false。
+ * 与 Spring Expression 不同，中间属性为 null 时返回 null 而不是抛出异常。
+ *
+ **/
+public final class PropertyPathValueExtractor implements CellValueExtractor {
+
+    private static final Pattern PROPERTY_PATH = Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+
+    /**
+     * 按行数据类型缓存的绑定结果，key 为属性路径
+     */
+    private static final ClassValue<Map<String, Binding>> BINDINGS = new ClassValue<>() {
+        @Override
+        protected Map<String, Binding> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String path;
+
+    /**
+     * 最近一次绑定的结果，行数据类型一致时直接复用
+     */
+    private volatile Binding binding;
+
+    private PropertyPathValueExtractor(String path) {
+        this.path = path;
+    }
+
+    /**
+     * 是否为简单属性路径
+     *
+     * @param expression 取值表达式
+     * @return <code>true</code> 为属性路径，可以不经过 Spring Expression 取值
+     */
+    public static boolean isPropertyPath(@Nullable String expression) {
+        return StringUtils.hasText(expression) && PROPERTY_PATH.matcher(expression).matches();
+    }
+
+    /**
+     * 创建属性路径取值器，在首次取值时按行数据类型绑定
+     *
+     * @param path 属性路径
+     * @return 取值器
+     */
+    @NotNull
+    public static PropertyPathValueExtractor of(@NotNull String path) {
+        if (!isPropertyPath(path)) {
+            throw BaseException.common("not a property path, expression = " + path);
+        }
+        return new PropertyPathValueExtractor(path);
+    }
+
+    /**
+     * 创建属性路径取值器，并立即按指定类型绑定
+     *
+     * @param rowType 行数据类型
+     * @param path    属性路径
+     * @return 取值器
+     */
+    @NotNull
+    public static PropertyPathValueExtractor of(@NotNull Class<?> rowType, @NotNull String path) {
+        PropertyPathValueExtractor result = of(path);
+        result.binding = bind(rowType, path);
+        return result;
+    }
+
+    @Override
+    public boolean supports(@NotNull Object row) {
+        return getBinding(row.getClass()).getters != null;
+    }
+
+    @Override
+    @Nullable
+    public Object extract(@NotNull Object row) {
+        Function<Object, Object>[] getters = getBinding(row.getClass()).getters;
+        if (getters == null) {
+            throw BaseException.common("unable to bind property path = " + path + " on " + row.getClass().getName());
+        }
+        Object result = row;
+        for (Function<Object, Object> getter : getters) {
+            if (result == null) {
+                return null;
+            }
+            result = getter.apply(result);
+        }
+        return result;
+    }
+
+    private Binding getBinding(Class<?> rowType) {
+        Binding result = binding;
+        if (result == null || result.rowType != rowType) {
+            result = bind(rowType, path);
+            binding = result;
+        }
+        return result;
+    }
+
+    private static Binding bind(Class<?> rowType, String path) {
+        return BINDINGS.get(rowType).computeIfAbsent(path, key -> createBinding(rowType, key.split("\\.")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Binding createBinding(Class<?> rowType, String[] properties) {
+        Function<Object, Object>[] getters = new Function[properties.length];
+        Class<?> type = rowType;
+        for (int i = 0; i < properties.length; i++) {
+            try {
+                Method method = findGetter(type, properties[i]);
+                if (method != null) {
+                    getters[i] = createGetter(method);
+                    type = method.getReturnType();
+                    continue;
+                }
+                Field field = WindReflectUtils.findFieldNullable(type, properties[i]);
+                if (field == null) {
+                    return new Binding(rowType, null);
+                }
+                getters[i] = asFunction(WindReflectUtils.exchangeGetterHandle(field), properties[i]);
+                type = field.getType();
+            } catch (BaseException e) {
+                // 无访问权限，交由 Spring Expression 处理
+                return new Binding(rowType, null);
+            }
+        }
+        return new Binding(rowType, getters);
+    }
+
+    @Nullable
+    private static Method findGetter(Class<?> type, String property) {
+        Field field = WindReflectUtils.findFieldNullable(type, property);
+        if (field != null) {
+            Method result = WindReflectUtils.findFieldGetMethod(field);
+            if (result != null) {
+                return result;
+            }
+        }
+        // 没有对应字段的计算属性
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String name : new String[]{"get" + capitalized, "is" + capitalized}) {
+            try {
+                Method result = type.getMethod(name);
+                if (!Modifier.isStatic(result.getModifiers()) && result.getReturnType() != void.class) {
+                    return result;
+                }
+            } catch (NoSuchMethodException ignore) {
+                // 尝试下一个方法名
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 通过 LambdaMetafactory 生成 getter，在 getter 所属类的查找上下文中定义，失败时回退到 MethodHandle
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(Method method) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return asFunction(WindReflectUtils.exchangeMethodHandle(method), method.getName());
+        }
+    }
+
+    private static Function<Object, Object> asFunction(MethodHandle handle, String name) {
+        MethodHandle getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return target -> {
+            try {
+                return getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new BaseException(DefaultExceptionCode.COMMON_ERROR, "get property value error, name = " + name, e);
+            }
+        };
+    }
+
+    private record Binding(Class<?> rowType, Function<Object, Object>[] getters) {
+    }
+}
@@ -0,0 +1,61 @@
+package io.githhub.youngerier.office.mybatisflex;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryWrapper;
+import io.githhub.youngerier.office.KeysetExcelDataFetcher;
+import io.github.youngerier.support.page.CursorPagination;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 基于 MyBatis-Flex 的游标 fetcher，在查询条件上追加 "key &gt; lastKey order by key asc limit size + 1"，
+ * 多查询的一条用于判断是否还有下一页，与生成的 Repository#seek 保持一致。
+ * <p>
+ * 需要额外依赖 mybatis-flex-core，key 列应有索引。
+ *
+ **/
+public final class MybatisFlexKeysetDataFetcher<T> implements KeysetExcelDataFetcher<T> {
+
+    private final BaseMapper<T> mapper;
+
+    private final QueryWrapper query;
+
+    private final QueryColumn keyColumn;
+
+    private final Function<T, Long> keyExtractor;
+
+    private MybatisFlexKeysetDataFetcher(BaseMapper<T> mapper, QueryWrapper query, QueryColumn keyColumn, Function<T, Long> keyExtractor) {
+        this.mapper = mapper;
+        this.query = query;
+        this.keyColumn = keyColumn;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * @param mapper       实体 mapper
+     * @param query        查询条件，不能包含排序与分页，每次抓取时复制后使用
+     * @param keyColumn    游标列，一般为主键
+     * @param keyExtractor 从实体中获取游标值
+     * @return 游标 fetcher
+     */
+    @NotNull
+    public static <T> MybatisFlexKeysetDataFetcher<T> of(@NotNull BaseMapper<T> mapper, @NotNull QueryWrapper query,
+                                                         @NotNull QueryColumn keyColumn, @NotNull Function<T, Long> keyExtractor) {
+        return new MybatisFlexKeysetDataFetcher<>(mapper, query, keyColumn, keyExtractor);
+    }
+
+    @Override
+    public CursorPagination<T> fetch(@Nullable Long lastKey, int size) {
+        // lastKey 为 null 时条件由 MyBatis-Flex 自动忽略
+        QueryWrapper queryWrapper = query.clone()
+                .and(keyColumn.gt(lastKey))
+                .orderBy(keyColumn.asc())
+                .limit(size + 1);
+        List<T> entities = mapper.selectListByQuery(queryWrapper);
+        return CursorPagination.of(entities, size, keyExtractor);
+    }
+}
@@ -7,6 +7,8 @@ import com.alibaba.excel.write.handler.WriteHandler;
 import com.alibaba.excel.write.style.column.SimpleColumnWidthStyleStrategy;
 import com.alibaba.excel.write.style.row.SimpleRowHeightStyleStrategy;
 import io.githhub.youngerier.office.ExportExcelDataFetcher;
+import io.githhub.youngerier.office.KeysetExcelDataFetcher;
+import io.githhub.youngerier.office.SheetRolloverPolicy;
 import io.githhub.youngerier.office.metadata.ExcelCellDescriptor;
 import io.github.youngerier.support.AssertUtils;
 import io.github.youngerier.support.exception.BaseException;
@@ -23,6 +25,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -55,10 +58,16 @@ import java.util.stream.Collectors;
  * render.render();
  * }</pre>
  *
- * @param filepath     excel 文件保存路径
- * @param sheetRenders excel sheet render
+ * @param filepath       excel 文件保存路径
+ * @param sheetRenders   excel sheet render
+ * @param rolloverPolicy sheet 滚动策略，行模式下单个 sheet 超过行数上限时新建 sheet 继续写入
  */
-public record ExcelTemplateRender(Path filepath, List<WriteHandler> writeHandlers, List<SheetRender> sheetRenders) {
+public record ExcelTemplateRender(Path filepath, List<WriteHandler> writeHandlers, List<SheetRender> sheetRenders,
+                                  SheetRolloverPolicy rolloverPolicy) {
+
+    public ExcelTemplateRender(Path filepath, List<WriteHandler> writeHandlers, List<SheetRender> sheetRenders) {
+        this(filepath, writeHandlers, sheetRenders, SheetRolloverPolicy.defaults());
+    }
 
     /**
      * 渲染 excel
@@ -68,9 +77,11 @@ public record ExcelTemplateRender(Path filepath, List<WriteHandler> writeHandler
         for (WriteHandler writeHandler : writeHandlers) {
             builder.registerWriteHandler(writeHandler);
         }
+        // 滚动新建的 sheet 编号排在所有声明的 sheet 之后
+        AtomicInteger nextSheetNo = new AtomicInteger(sheetRenders.stream().mapToInt(SheetRender::index).max().orElse(-1) + 1);
         try (ExcelWriter writer = builder.build()) {
             for (SheetRender render : sheetRenders) {
-                render.render(writer);
+                render.render(writer, rolloverPolicy, nextSheetNo);
             }
             writer.finish();
         }
@@ -120,6 +131,10 @@ public record ExcelTemplateRender(Path filepath, List<WriteHandler> writeHandler
 
         private Printer<?> defaultPrinter;
 
+        private SheetRolloverPolicy rolloverPolicy = SheetRolloverPolicy.defaults();
+
+        private ForkJoinPool formatPool;
+
         private ExcelTemplateRenderBuilder(Path filepath) {
             this.filepath = filepath;
         }
@@ -197,6 +212,39 @@ public record ExcelTemplateRender(Path filepath, List<WriteHandler> writeHandler
             return this;
         }
 
+        /**
+         * 按游标抓取数据，避免深分页
+         *
+         * @param fetcher 游标 fetcher
+         * @return this
+         */
+        public <T> ExcelTemplateRenderBuilder keysetData(KeysetExcelDataFetcher<T> fetcher) {
+            latestSheet().latestRender().keysetData(fetcher);
+            return this;
+        }
+
+        /**
+         * 设置 sheet 滚动策略，行模式下单个 sheet 的数据行数超过上限时新建 sheet，并重复表头
+         *
+         * @param rolloverPolicy 滚动策略
+         * @return this
+         */
+        public ExcelTemplateRenderBuilder rollover(SheetRolloverPolicy rolloverPolicy) {
+            this.rolloverPolicy = rolloverPolicy;
+            return this;
+        }
+
+        /**
+         * 设置并行格式化使用的线程池，每页数据拆分到该线程池中格式化，行顺序不变；列的 printer 需要线程安全
+         *
+         * @param formatPool 线程池，如 {@link ForkJoinPool#commonPool()}，为 null 时不并行格式化
+         * @return this
+         */
+        public ExcelTemplateRenderBuilder parallelFormat(ForkJoinPool formatPool) {
+            this.formatPool = formatPool;
+            return this;
+        }
+
         public ExcelTemplateRenderBuilder fetchSize(int fetchSize) {
             this.fetchSize.set(fetchSize);
             return this;
@@ -210,9 +258,9 @@ public record ExcelTemplateRender(Path filepath, List<WriteHandler> writeHandler
 
         public ExcelTemplateRender build() {
             List<SheetRender> renders = sheetRenders.stream()
-                    .map(b -> b.build(fetchSize.get()))
+                    .map(b -> b.build(fetchSize.get(), formatPool))
                     .collect(Collectors.toList());
-            return new ExcelTemplateRender(filepath, writeHandlers, renders);
+            return new ExcelTemplateRender(filepath, writeHandlers, renders, rolloverPolicy);
         }
     }
 
@@ -1,15 +1,19 @@
 package io.githhub.youngerier.office.template;
 
 import io.githhub.youngerier.office.ExportExcelDataFetcher;
+import io.githhub.youngerier.office.KeysetExcelDataFetcher;
 import io.githhub.youngerier.office.export.SpringExpressionRowDataFormatter;
 import io.githhub.youngerier.office.metadata.ExcelCellDescriptor;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -28,38 +32,54 @@ abstract class SheetDataSupplier implements Supplier<List<List<String>>> {
 
     private final SpringExpressionRowDataFormatter formatter;
 
-    protected SheetDataSupplier(@NotNull List<ExcelCellDescriptor> titles, @NotNull List<ExportExcelDataFetcher<?>> fetchers, int fetchSize) {
+    /**
+     * 并行格式化使用的线程池，为 null 时在当前线程格式化
+     */
+    @Nullable
+    private final ForkJoinPool formatPool;
+
+    protected SheetDataSupplier(@NotNull List<ExcelCellDescriptor> titles, @NotNull List<ExportExcelDataFetcher<?>> fetchers, int fetchSize,
+                                @Nullable ForkJoinPool formatPool) {
         this.titles = titles;
         this.fetchers = fetchers;
         this.fetchSize = fetchSize;
         this.formatter = SpringExpressionRowDataFormatter.of(titles);
+        this.formatPool = formatPool;
     }
 
     @Override
     public List<List<String>> get() {
         List<List<String>> result = new ArrayList<>();
+        forEachPage(result::add, result::addAll);
+        return result;
+    }
+
+    /**
+     * 逐页提供数据，不在内存中保留整个 sheet 的数据
+     *
+     * @param header 表头行回调，没有表头时不调用
+     * @param page   每抓取一页数据回调一次
+     */
+    void forEachPage(Consumer<List<String>> header, Consumer<List<List<String>>> page) {
         // titles
         List<String> titleRows = titles.stream()
                 .map(ExcelCellDescriptor::getTitle)
                 .filter(StringUtils::hasText)
                 .collect(Collectors.toList());
         if (!titleRows.isEmpty()) {
-            result.add(titleRows);
+            header.accept(titleRows);
         }
         fetchers.forEach(fetcher -> {
             int queryPage = 1;
             while (true) {
                 List<?> records = fetcher.fetch(queryPage, fetchSize);
-                for (Object row : records) {
-                    result.add(formatter.formatRows(row));
-                }
+                page.accept(formatter.formatRows(records, formatPool));
                 if (records.size() < fetchSize) {
                     break;
                 }
                 queryPage++;
             }
         });
-        return result;
     }
 
     static SheetDataSupplierBuilder row() {
@@ -99,22 +119,28 @@ abstract class SheetDataSupplier implements Supplier<List<List<String>>> {
             return this;
         }
 
-        SheetDataSupplier build(int fetchSize) {
-            return rowMode ? new RowSupplier(titles, fetchers, fetchSize) : new CellSupplier(titles, fetchers, fetchSize);
+        <T> SheetDataSupplierBuilder keysetData(KeysetExcelDataFetcher<T> fetcher) {
+            return this.data(fetcher.asPageFetcher());
+        }
+
+        SheetDataSupplier build(int fetchSize, @Nullable ForkJoinPool formatPool) {
+            return rowMode ? new RowSupplier(titles, fetchers, fetchSize, formatPool) : new CellSupplier(titles, fetchers, fetchSize, formatPool);
         }
     }
 
     static class RowSupplier extends SheetDataSupplier {
 
-        public RowSupplier(@NotNull List<ExcelCellDescriptor> titles, @NotNull List<ExportExcelDataFetcher<?>> fetchers, int fetchSize) {
-            super(titles, fetchers, fetchSize);
+        public RowSupplier(@NotNull List<ExcelCellDescriptor> titles, @NotNull List<ExportExcelDataFetcher<?>> fetchers, int fetchSize,
+                           @Nullable ForkJoinPool formatPool) {
+            super(titles, fetchers, fetchSize, formatPool);
         }
     }
 
     static class CellSupplier extends SheetDataSupplier {
 
-        public CellSupplier(@NotNull List<ExcelCellDescriptor> titles, @NotNull List<ExportExcelDataFetcher<?>> fetchers, int fetchSize) {
-            super(titles, fetchers, fetchSize);
+        public CellSupplier(@NotNull List<ExcelCellDescriptor> titles, @NotNull List<ExportExcelDataFetcher<?>> fetchers, int fetchSize,
+                            @Nullable ForkJoinPool formatPool) {
+            super(titles, fetchers, fetchSize, formatPool);
         }
     }
 
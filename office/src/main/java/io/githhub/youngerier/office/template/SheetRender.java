@@ -3,6 +3,7 @@ package io.githhub.youngerier.office.template;
 import com.alibaba.excel.EasyExcelFactory;
 import com.alibaba.excel.ExcelWriter;
 import com.alibaba.excel.write.metadata.WriteSheet;
+import io.githhub.youngerier.office.SheetRolloverPolicy;
 import io.github.youngerier.support.AssertUtils;
 import io.github.youngerier.support.constants.Constants;
 import jakarta.validation.constraints.NotNull;
@@ -10,8 +11,11 @@ import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -24,17 +28,28 @@ record SheetRender(int index, String sheetName, List<SheetDataSupplier> supplier
         return new SheetRenderBuilder(index, sheetName);
     }
 
-    void render(ExcelWriter excelWriter) {
-        List<List<String>> data = suppliers.stream()
-                .map(SheetDataSupplier::get)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+    /**
+     * 渲染 sheet，行模式下按页写入，超过滚动策略的行数上限时新建 sheet 并重复表头
+     *
+     * @param excelWriter    excel writer
+     * @param rolloverPolicy sheet 滚动策略
+     * @param nextSheetNo    滚动新建的 sheet 使用的编号，避免与其他 sheet 冲突
+     */
+    void render(ExcelWriter excelWriter, SheetRolloverPolicy rolloverPolicy, AtomicInteger nextSheetNo) {
+        RolloverSheetWriter writer = new RolloverSheetWriter(excelWriter, rolloverPolicy, nextSheetNo);
         if (CollectionUtils.firstElement(suppliers) instanceof SheetDataSupplier.CellSupplier) {
-            // 列写入模式，列转行
-            data = convertColumnsToRows(data);
+            // 列写入模式，列转行，需要全部数据
+            List<List<String>> data = suppliers.stream()
+                    .map(SheetDataSupplier::get)
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toList());
+            writer.write(convertColumnsToRows(data));
+        } else {
+            for (SheetDataSupplier supplier : suppliers) {
+                supplier.forEachPage(writer::header, writer::write);
+            }
         }
-        WriteSheet sheet = EasyExcelFactory.writerSheet(sheetName).sheetNo(index).build();
-        excelWriter.write(data, sheet);
+        writer.finish();
     }
 
     /**
@@ -58,6 +73,91 @@ record SheetRender(int index, String sheetName, List<SheetDataSupplier> supplier
     }
 
 
+    /**
+     * 按滚动策略写入行数据的 sheet writer
+     */
+    private final class RolloverSheetWriter {
+
+        private final ExcelWriter excelWriter;
+
+        private final SheetRolloverPolicy rolloverPolicy;
+
+        private final AtomicInteger nextSheetNo;
+
+        /**
+         * 最近一次写入的表头行，滚动到新 sheet 时重复写入
+         */
+        private List<String> header;
+
+        private WriteSheet sheet;
+
+        private int sheetSequence;
+
+        /**
+         * 当前 sheet 的第一行是否为表头，第一行表头不计入行数上限
+         */
+        private boolean headerInSheet;
+
+        /**
+         * 当前 sheet 已写入的行数，不含第一行表头
+         */
+        private int sheetRows;
+
+        RolloverSheetWriter(ExcelWriter excelWriter, SheetRolloverPolicy rolloverPolicy, AtomicInteger nextSheetNo) {
+            this.excelWriter = excelWriter;
+            this.rolloverPolicy = rolloverPolicy;
+            this.nextSheetNo = nextSheetNo;
+            this.sheet = EasyExcelFactory.writerSheet(sheetName).sheetNo(index).build();
+        }
+
+        void header(List<String> header) {
+            this.header = header;
+            if (sheetRows == rolloverPolicy.getMaxRowsPerSheet()) {
+                // 新 sheet 的第一行即为该表头
+                rollover();
+                return;
+            }
+            excelWriter.write(Collections.singletonList(header), sheet);
+            if (headerInSheet || sheetRows > 0) {
+                sheetRows++;
+            } else {
+                headerInSheet = true;
+            }
+        }
+
+        void write(List<List<String>> rows) {
+            int offset = 0;
+            while (offset < rows.size()) {
+                if (sheetRows == rolloverPolicy.getMaxRowsPerSheet()) {
+                    rollover();
+                }
+                int count = Math.min(rows.size() - offset, rolloverPolicy.getMaxRowsPerSheet() - sheetRows);
+                excelWriter.write(rows.subList(offset, offset + count), sheet);
+                sheetRows += count;
+                offset += count;
+            }
+        }
+
+        void finish() {
+            if (sheetSequence == 0 && sheetRows == 0 && !headerInSheet) {
+                // 没有数据时也创建 sheet
+                excelWriter.write(Collections.emptyList(), sheet);
+            }
+        }
+
+        private void rollover() {
+            sheetSequence++;
+            sheet = EasyExcelFactory.writerSheet(rolloverPolicy.sheetName(sheetName, sheetSequence))
+                    .sheetNo(nextSheetNo.getAndIncrement())
+                    .build();
+            sheetRows = 0;
+            headerInSheet = header != null;
+            if (headerInSheet) {
+                excelWriter.write(Collections.singletonList(header), sheet);
+            }
+        }
+    }
+
     static class SheetRenderBuilder {
 
         private final int index;
@@ -82,9 +182,9 @@ record SheetRender(int index, String sheetName, List<SheetDataSupplier> supplier
             return result;
         }
 
-        SheetRender build(int fetchSize) {
+        SheetRender build(int fetchSize, ForkJoinPool formatPool) {
             List<SheetDataSupplier> dataSuppliers = builders.stream()
-                    .map(b -> b.build(fetchSize))
+                    .map(b -> b.build(fetchSize, formatPool))
                     .collect(Collectors.toList());
             Set<Class<?>> classes = dataSuppliers.stream()
                     .map(SheetDataSupplier::getClass)
@@ -0,0 +1,205 @@
+package io.githhub.youngerier.office.export;
+
+import io.githhub.youngerier.office.ExcelCellQuickBuilder;
+import io.githhub.youngerier.office.metadata.ExcelCellDescriptor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DefaultEasyExcelDocumentWriter 类的单元测试
+ */
+class DefaultEasyExcelDocumentWriterTest {
+
+    private static final List<String> FIELDS = List.of("name", "count", "amount", "enabled", "createdAt", "birthday");
+
+    @Test
+    void writesNativeCellsForQuickBuiltDescriptorsInTypedMode() throws IOException {
+        List<ExcelCellDescriptor> descriptors = ExcelCellQuickBuilder.forClass(Item.class, FIELDS);
+
+        try (XSSFWorkbook workbook = write(descriptors, true)) {
+            Row row = workbook.getSheetAt(0).getRow(1);
+
+            assertEquals(CellType.STRING, row.getCell(0).getCellType());
+            assertEquals("apple", row.getCell(0).getStringCellValue());
+            assertEquals(CellType.NUMERIC, row.getCell(1).getCellType());
+            assertEquals(3, row.getCell(1).getNumericCellValue());
+            assertEquals(CellType.NUMERIC, row.getCell(2).getCellType());
+            assertEquals(12.5, row.getCell(2).getNumericCellValue());
+            assertEquals(CellType.BOOLEAN, row.getCell(3).getCellType());
+            assertTrue(row.getCell(3).getBooleanCellValue());
+            assertDateCell(row.getCell(4), "yyyy-MM-dd HH:mm:ss", LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+            assertDateCell(row.getCell(5), "yyyy-MM-dd", LocalDateTime.of(2024, 1, 2, 0, 0));
+        }
+    }
+
+    @Test
+    void writesPrinterOutputAsTextByDefault() throws IOException {
+        List<ExcelCellDescriptor> descriptors = ExcelCellQuickBuilder.forClass(Item.class, FIELDS);
+
+        try (XSSFWorkbook workbook = write(descriptors, false)) {
+            Row row = workbook.getSheetAt(0).getRow(1);
+
+            for (int i = 0; i < FIELDS.size(); i++) {
+                assertEquals(CellType.STRING, row.getCell(i).getCellType());
+            }
+            assertEquals("3", row.getCell(1).getStringCellValue());
+            assertEquals("是", row.getCell(3).getStringCellValue());
+            assertEquals("2024-01-02 03:04:05", row.getCell(4).getStringCellValue());
+            assertEquals("2024-01-02", row.getCell(5).getStringCellValue());
+        }
+    }
+
+    @Test
+    void keepsExplicitPrinterOutputAsTextInTypedMode() throws IOException {
+        List<ExcelCellDescriptor> descriptors = List.of(
+                ExcelCellDescriptor.builder("count", "count").printer((Integer value, Locale locale) -> value + " pcs").build(),
+                ExcelCellDescriptor.of("amount", "amount"));
+
+        try (XSSFWorkbook workbook = write(descriptors, true)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Row row = sheet.getRow(1);
+
+            assertEquals(CellType.STRING, row.getCell(0).getCellType());
+            assertEquals("3 pcs", row.getCell(0).getStringCellValue());
+            assertEquals(CellType.NUMERIC, row.getCell(1).getCellType());
+        }
+    }
+
+    @Test
+    void writesTextThroughSharedStringsTable() throws IOException {
+        List<ExcelCellDescriptor> descriptors = ExcelCellQuickBuilder.forClass(Item.class, FIELDS);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DefaultEasyExcelDocumentWriter writer = DefaultEasyExcelDocumentWriter.builder(output, descriptors)
+                .sharedStrings(true)
+                .build();
+        writer.write(List.of(newItem(), newItem()));
+        writer.finish();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+
+            assertEquals(2, sheet.getLastRowNum());
+            assertEquals("apple", sheet.getRow(2).getCell(0).getStringCellValue());
+            assertTrue(workbook.getSharedStringSource().getCount() > 0);
+        }
+    }
+
+    @Test
+    void abortClosesOutputWithoutWritingWorkbook() {
+        CloseTrackingOutputStream output = new CloseTrackingOutputStream();
+        DefaultEasyExcelDocumentWriter writer = DefaultEasyExcelDocumentWriter.builder(output, ExcelCellQuickBuilder.forClass(Item.class, FIELDS))
+                .flushSize(1)
+                .build();
+        writer.write(List.of(newItem(), newItem()));
+
+        writer.abort();
+        writer.finish();
+
+        assertTrue(output.closed);
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void nullPrinterIsNotAPrinter() {
+        ExcelCellDescriptor descriptor = ExcelCellDescriptor.builder("count", "count").printer(null).build();
+
+        assertFalse(descriptor.hasPrinter());
+    }
+
+    private static XSSFWorkbook write(List<ExcelCellDescriptor> descriptors, boolean typedCells) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DefaultEasyExcelDocumentWriter writer = DefaultEasyExcelDocumentWriter.builder(output, descriptors)
+                .typedCells(typedCells)
+                .build();
+        writer.write(List.of(newItem()));
+        writer.finish();
+        return new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    private static Item newItem() {
+        return new Item("apple", 3, new BigDecimal("12.5"), true, LocalDateTime.of(2024, 1, 2, 3, 4, 5), LocalDate.of(2024, 1, 2));
+    }
+
+    private static void assertDateCell(Cell cell, String dataFormat, LocalDateTime expected) {
+        assertEquals(CellType.NUMERIC, cell.getCellType());
+        assertTrue(DateUtil.isCellDateFormatted(cell));
+        assertEquals(dataFormat, cell.getCellStyle().getDataFormatString());
+        assertEquals(expected, cell.getLocalDateTimeCellValue());
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    public static class Item {
+
+        private final String name;
+
+        private final Integer count;
+
+        private final BigDecimal amount;
+
+        private final Boolean enabled;
+
+        private final LocalDateTime createdAt;
+
+        private final LocalDate birthday;
+
+        Item(String name, Integer count, BigDecimal amount, Boolean enabled, LocalDateTime createdAt, LocalDate birthday) {
+            this.name = name;
+            this.count = count;
+            this.amount = amount;
+            this.enabled = enabled;
+            this.createdAt = createdAt;
+            this.birthday = birthday;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public LocalDate getBirthday() {
+            return birthday;
+        }
+    }
+}
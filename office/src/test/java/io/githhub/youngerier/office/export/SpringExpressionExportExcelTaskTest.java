@@ -0,0 +1,240 @@
+package io.githhub.youngerier.office.export;
+
+import io.githhub.youngerier.office.ExcelDocumentWriter;
+import io.githhub.youngerier.office.ExportExcelDataFetcher;
+import io.githhub.youngerier.office.OfficeTaskState;
+import io.github.youngerier.support.concurrent.AsyncExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringExpressionExportExcelTask 类的单元测试
+ */
+class SpringExpressionExportExcelTaskTest {
+
+    private static final int FETCH_SIZE = 2;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final RecordingWriter writer = new RecordingWriter();
+
+    private final ExportExcelTaskInfo taskInfo = ExportExcelTaskInfo.of("test", writer, FETCH_SIZE);
+
+    @AfterEach
+    void resetExecutor() {
+        AsyncExecutors.configure(null);
+    }
+
+    @Test
+    void pipelinedModeWritesPagesInOrder() {
+        RowFetcher fetcher = new RowFetcher(9);
+
+        run(new SpringExpressionExportExcelTask(taskInfo, fetcher, id -> null, 2));
+
+        assertEquals(rows(9), writer.rows);
+        assertEquals(5, fetcher.fetches.get());
+        assertEquals(OfficeTaskState.COMPLETED, taskInfo.getState());
+        assertTrue(writer.finished);
+    }
+
+    @Test
+    void pipelinedModeDoesNotRunProducerOnCallerThread() {
+        // 在调用线程上执行任务的执行器，等同于有界线程池饱和时的 CallerRunsPolicy
+        AsyncExecutors.configure(Runnable::run);
+        RowFetcher fetcher = new RowFetcher(20);
+
+        run(new SpringExpressionExportExcelTask(taskInfo, fetcher, id -> null, 1));
+
+        assertEquals(rows(20), writer.rows);
+    }
+
+    @Test
+    void pipelinedModeStopsWhenStateSyncerCancels() throws InterruptedException {
+        RowFetcher fetcher = new RowFetcher(Integer.MAX_VALUE);
+        Function<String, OfficeTaskState> stateSyncer = id -> writer.rows.size() >= 4 ? OfficeTaskState.CANCELED : null;
+
+        run(new SpringExpressionExportExcelTask(taskInfo, fetcher, stateSyncer, 2));
+
+        assertEquals(rows(4), writer.rows);
+        assertEquals(OfficeTaskState.CANCELED, taskInfo.getState());
+        assertTrue(writer.aborted);
+        assertFalse(writer.finished);
+        // 生产者被中断后不再抓取：已写入 2 页，队列最多 2 页，另有 1 页阻塞在入队
+        TimeUnit.MILLISECONDS.sleep(100);
+        int fetches = fetcher.fetches.get();
+        assertTrue(fetches <= 5, "fetches = " + fetches);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(fetches, fetcher.fetches.get());
+    }
+
+    @Test
+    void pipelinedModeRethrowsProducerFailure() {
+        IllegalStateException failure = new IllegalStateException("fetch failed");
+        RowFetcher fetcher = new RowFetcher(Integer.MAX_VALUE, 3, failure);
+        SpringExpressionExportExcelTask task = new SpringExpressionExportExcelTask(taskInfo, fetcher, id -> null, 2);
+
+        assertSame(failure, assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(IllegalStateException.class, task::run)));
+        assertEquals(rows(4), writer.rows);
+        assertEquals(OfficeTaskState.FAILED, taskInfo.getState());
+        assertTrue(writer.aborted);
+        assertFalse(writer.finished);
+    }
+
+    @Test
+    void parallelModeWritesPagesInOrder() {
+        RowFetcher fetcher = new RowFetcher(15).randomDelay();
+
+        run(new SpringExpressionExportExcelTask(taskInfo, fetcher, id -> null, 0, 3));
+
+        assertEquals(rows(15), writer.rows);
+        assertEquals(8, fetcher.fetches.get());
+    }
+
+    @Test
+    void parallelModeKeepsFetchingAfterCountedPages() {
+        // count 时只有 4 行，之后追加到 7 行
+        RowFetcher fetcher = new RowFetcher(7).withCount(4);
+
+        run(new SpringExpressionExportExcelTask(taskInfo, fetcher, id -> null, 0, 3));
+
+        assertEquals(rows(7), writer.rows);
+    }
+
+    @Test
+    void parallelModeRunsPagesOnCallerThreadWhenExecutorIsSaturated() {
+        AsyncExecutors.configure(Runnable::run);
+        RowFetcher fetcher = new RowFetcher(7).withCount(7);
+
+        run(new SpringExpressionExportExcelTask(taskInfo, fetcher, id -> null, 0, 3));
+
+        assertEquals(rows(7), writer.rows);
+    }
+
+    @Test
+    void parallelModeRethrowsFetchFailure() {
+        IllegalStateException failure = new IllegalStateException("fetch failed");
+        RowFetcher fetcher = new RowFetcher(20, 3, failure).withCount(20);
+        SpringExpressionExportExcelTask task = new SpringExpressionExportExcelTask(taskInfo, fetcher, id -> null, 0, 3);
+
+        assertSame(failure, assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(IllegalStateException.class, task::run)));
+        assertEquals(rows(4), writer.rows);
+        assertEquals(OfficeTaskState.FAILED, taskInfo.getState());
+        assertTrue(writer.aborted);
+        assertFalse(writer.finished);
+    }
+
+    private static void run(SpringExpressionExportExcelTask task) {
+        assertTimeoutPreemptively(TIMEOUT, task::run);
+    }
+
+    private static List<Object> rows(int count) {
+        return IntStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * 返回 1..total 的整数作为行数据
+     */
+    private static class RowFetcher implements ExportExcelDataFetcher<Integer> {
+
+        private final int total;
+
+        private final int failurePage;
+
+        private final RuntimeException failure;
+
+        private final AtomicInteger fetches = new AtomicInteger();
+
+        private int count = DEFAULT_TOTAL;
+
+        private boolean randomDelay;
+
+        RowFetcher(int total) {
+            this(total, -1, null);
+        }
+
+        RowFetcher(int total, int failurePage, RuntimeException failure) {
+            this.total = total;
+            this.failurePage = failurePage;
+            this.failure = failure;
+        }
+
+        RowFetcher withCount(int count) {
+            this.count = count;
+            return this;
+        }
+
+        RowFetcher randomDelay() {
+            this.randomDelay = true;
+            return this;
+        }
+
+        @Override
+        public int count() {
+            return count == DEFAULT_TOTAL ? total : count;
+        }
+
+        @Override
+        public List<Integer> fetch(int page, int size) {
+            fetches.incrementAndGet();
+            if (page == failurePage) {
+                throw failure;
+            }
+            if (randomDelay) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextInt(20));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            long first = (long) (page - 1) * size + 1;
+            List<Integer> result = new ArrayList<>(size);
+            for (long i = first; i < first + size && i <= total; i++) {
+                result.add((int) i);
+            }
+            return result;
+        }
+    }
+
+    private static class RecordingWriter implements ExcelDocumentWriter {
+
+        private final List<Object> rows = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile boolean finished;
+
+        private volatile boolean aborted;
+
+        @Override
+        public void write(Collection<Object> rows) {
+            this.rows.addAll(rows);
+        }
+
+        @Override
+        public void finish() {
+            finished = true;
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.youngerier.support.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * 批量加载器，把多次按键加载合并为一次批量加载，用于避免循环调用 getById 产生的 N+1 查询。
+ *
+ * <p>调用 {@link #load(Object)} 只登记待加载的键，{@link #dispatch()} 时一次性批量加载所有待加载的键；
+ * 并发调用 {@link #get(Object)} 时，先执行 dispatch 的线程会把其他线程登记的键一起加载。
+ * 加载结果在加载器生命周期内缓存，同一个键只加载一次，因此加载器应按请求创建，不能全局共享。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+
+    private final int maxBatchSize;
+
+    private final Map<K, CompletableFuture<V>> futures = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<K> pendingKeys = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param batchFunction 批量加载函数，返回的映射中不存在的键视为 null
+     * @param maxBatchSize  单次批量加载的最大键数量
+     */
+    public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 登记待加载的键，不立即执行加载
+     *
+     * @param key 键
+     * @return 加载结果，在 {@link #dispatch()} 后完成
+     */
+    public CompletableFuture<V> load(K key) {
+        return futures.computeIfAbsent(key, k -> {
+            pendingKeys.add(k);
+            return new CompletableFuture<>();
+        });
+    }
+
+    /**
+     * 加载单个键，会一并加载其他已登记的键
+     *
+     * @param key 键
+     * @return 值，不存在或 key 为 null 时返回 null
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        CompletableFuture<V> future = load(key);
+        dispatch();
+        return join(future);
+    }
+
+    /**
+     * 加载多个键，会一并加载其他已登记的键
+     *
+     * @param keys 键集合，null 元素被忽略
+     * @return 键到值的映射，不包含值为 null 的键
+     */
+    public Map<K, V> getAll(Collection<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<K, CompletableFuture<V>> requested = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (key != null) {
+                requested.put(key, load(key));
+            }
+        }
+        dispatch();
+        Map<K, V> result = new LinkedHashMap<>();
+        requested.forEach((key, future) -> {
+            V value = join(future);
+            if (value != null) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 批量加载所有已登记的键，超过 {@code maxBatchSize} 时分批加载
+     */
+    public void dispatch() {
+        List<K> batch = new ArrayList<>();
+        K key;
+        while ((key = pendingKeys.poll()) != null) {
+            batch.add(key);
+            if (batch.size() >= maxBatchSize) {
+                loadBatch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            loadBatch(batch);
+        }
+    }
+
+    /**
+     * 清除已加载的结果，之后的加载会重新查询
+     */
+    public void clear() {
+        futures.entrySet().removeIf(entry -> entry.getValue().isDone());
+    }
+
+    private void loadBatch(List<K> keys) {
+        Map<K, V> values;
+        try {
+            values = batchFunction.apply(keys);
+        } catch (RuntimeException e) {
+            for (K key : keys) {
+                futures.remove(key).completeExceptionally(e);
+            }
+            throw e;
+        }
+        for (K key : keys) {
+            futures.get(key).complete(values == null ? null : values.get(key));
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
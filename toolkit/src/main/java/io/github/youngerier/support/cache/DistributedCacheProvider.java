@@ -0,0 +1,22 @@
+package io.github.youngerier.support.cache;
+
+import java.time.Duration;
+
+/**
+ * 分布式缓存（二级缓存）扩展点，通过 {@link java.util.ServiceLoader} 加载，
+ * 在 {@code META-INF/services/io.github.youngerier.support.cache.DistributedCacheProvider} 中注册实现类。
+ * 注册后 {@link EntityCaches#create} 创建的缓存会在本地缓存未命中时查询分布式缓存。
+ */
+public interface DistributedCacheProvider {
+
+    /**
+     * 创建指定名称的分布式缓存
+     *
+     * @param name 缓存名称，例如 "User:byId"
+     * @param ttl  过期时间
+     * @param <K>  缓存键类型
+     * @param <V>  缓存值类型
+     * @return 分布式缓存
+     */
+    <K, V> EntityCache<K, V> create(String name, Duration ttl);
+}
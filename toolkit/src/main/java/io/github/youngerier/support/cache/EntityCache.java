@@ -0,0 +1,99 @@
+package io.github.youngerier.support.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 实体缓存接口，生成的缓存服务通过该接口读写缓存
+ *
+ * <p>默认的 {@link #get} 与 {@link #getAll} 在加载后直接写入缓存，加载期间发生的失效可能被旧值覆盖；
+ * 实现类应当像 {@link LocalEntityCache} 一样在加载期间键被失效时放弃写入。
+ *
+ * @param <K> 缓存键类型
+ * @param <V> 缓存值类型
+ */
+public interface EntityCache<K, V> {
+
+    /**
+     * 获取缓存值
+     *
+     * @param key 缓存键
+     * @return 缓存值，不存在或已过期时返回 null
+     */
+    V getIfPresent(K key);
+
+    /**
+     * 获取缓存值，不存在时通过 loader 加载并写入缓存，loader 返回 null 时不缓存
+     *
+     * @param key    缓存键
+     * @param loader 加载函数
+     * @return 缓存值
+     */
+    default V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 批量获取缓存值，未命中的键通过 loader 一次加载并写入缓存；null 键与重复键被忽略
+     *
+     * @param keys   缓存键集合
+     * @param loader 批量加载函数，返回键到值的映射，不存在的键不包含在结果中
+     * @return 键到值的映射，不存在的键不包含在结果中
+     */
+    default Map<K, V> getAll(Collection<? extends K> keys, Function<? super Set<K>, ? extends Map<K, ? extends V>> loader) {
+        Map<K, V> result = new LinkedHashMap<>();
+        Set<K> missingKeys = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (key == null || result.containsKey(key)) {
+                continue;
+            }
+            V value = getIfPresent(key);
+            if (value != null) {
+                result.put(key, value);
+            } else {
+                missingKeys.add(key);
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            loader.apply(missingKeys).forEach((key, value) -> {
+                if (value != null && missingKeys.contains(key)) {
+                    put(key, value);
+                    result.put(key, value);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 写入缓存
+     *
+     * @param key   缓存键
+     * @param value 缓存值
+     */
+    void put(K key, V value);
+
+    /**
+     * 删除缓存
+     *
+     * @param key 缓存键
+     */
+    void evict(K key);
+
+    /**
+     * 清空缓存
+     */
+    void clear();
+}
@@ -0,0 +1,63 @@
+package io.github.youngerier.support.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.function.UnaryOperator;
+
+/**
+ * 实体缓存工厂，生成的缓存服务通过该类创建缓存
+ */
+@Slf4j
+public final class EntityCaches {
+
+    private static final DistributedCacheProvider DISTRIBUTED_PROVIDER = loadProvider();
+
+    private EntityCaches() {
+    }
+
+    /**
+     * 创建缓存，存在 {@link DistributedCacheProvider} 实现时返回本地 + 分布式的两级缓存，否则只使用本地缓存
+     *
+     * @param name    缓存名称
+     * @param maxSize 本地缓存最大条目数
+     * @param ttl     过期时间
+     * @param <K>     缓存键类型
+     * @param <V>     缓存值类型
+     * @return 缓存
+     */
+    public static <K, V> EntityCache<K, V> create(String name, int maxSize, Duration ttl) {
+        return create(name, maxSize, ttl, UnaryOperator.identity());
+    }
+
+    /**
+     * 创建缓存，本地缓存写入与读取时通过 copier 复制缓存值，用于缓存可变对象
+     *
+     * @param name    缓存名称
+     * @param maxSize 本地缓存最大条目数
+     * @param ttl     过期时间
+     * @param copier  复制缓存值的函数
+     * @param <K>     缓存键类型
+     * @param <V>     缓存值类型
+     * @return 缓存
+     */
+    public static <K, V> EntityCache<K, V> create(String name, int maxSize, Duration ttl, UnaryOperator<V> copier) {
+        EntityCache<K, V> local = new LocalEntityCache<>(maxSize, ttl, copier);
+        if (DISTRIBUTED_PROVIDER == null) {
+            return local;
+        }
+        return new TieredEntityCache<>(local, DISTRIBUTED_PROVIDER.create(name, ttl));
+    }
+
+    private static DistributedCacheProvider loadProvider() {
+        Iterator<DistributedCacheProvider> iterator = ServiceLoader.load(DistributedCacheProvider.class).iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        DistributedCacheProvider provider = iterator.next();
+        log.info("使用分布式缓存: {}", provider.getClass().getName());
+        return provider;
+    }
+}
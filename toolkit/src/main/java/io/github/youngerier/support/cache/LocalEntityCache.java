@@ -0,0 +1,289 @@
+package io.github.youngerier.support.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 本地缓存实现，支持最大容量与写入后过期（TTL）。
+ *
+ * <p>数据保存在 {@link ConcurrentHashMap} 中，读取不加锁；访问记录先写入有界的读缓冲区（满时丢弃），
+ * 由写操作或缓冲区达到阈值时持有淘汰锁批量回放到按访问顺序排列的 {@link LinkedHashMap}，
+ * 超过最大容量时淘汰最久未访问的条目。写入、删除与清空持有淘汰锁。
+ *
+ * <p>{@link #get} 与 {@link #getAll} 在加载前记录键的失效代数，加载期间该键被删除或缓存被清空时不写入加载结果，
+ * 避免并发读取在更新提交并失效缓存后回填旧值。
+ *
+ * <p>指定 copier 时写入与读取都会复制缓存值，调用方修改返回的对象不会影响缓存中的值；
+ * 缓存值本身不可变时无需指定。
+ *
+ * @param <K> 缓存键类型
+ * @param <V> 缓存值类型
+ */
+public class LocalEntityCache<K, V> implements EntityCache<K, V> {
+
+    /**
+     * 读缓冲区容量，超过时丢弃访问记录
+     */
+    private static final int READ_BUFFER_SIZE = 128;
+
+    /**
+     * 读缓冲区达到该数量时尝试回放访问记录
+     */
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+    /**
+     * 失效代数的分段数，必须是 2 的幂
+     */
+    private static final int GENERATION_STRIPES = 64;
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 按访问顺序排列的条目，只在持有 evictionLock 时访问
+     */
+    private final LinkedHashMap<K, Entry<K, V>> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final ConcurrentLinkedQueue<Entry<K, V>> readBuffer = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger readBufferSize = new AtomicInteger();
+
+    /**
+     * 按键分段的失效代数，删除键时递增对应分段，清空时递增所有分段；只在持有 evictionLock 时修改
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final UnaryOperator<V> copier;
+
+    private final LongSupplier ticker;
+
+    public LocalEntityCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, UnaryOperator.identity());
+    }
+
+    /**
+     * @param maxSize 最大条目数
+     * @param ttl     写入后过期时间
+     * @param copier  写入与读取时复制缓存值的函数
+     */
+    public LocalEntityCache(int maxSize, Duration ttl, UnaryOperator<V> copier) {
+        this(maxSize, ttl, copier, System::nanoTime);
+    }
+
+    LocalEntityCache(int maxSize, Duration ttl, UnaryOperator<V> copier, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("缓存容量必须大于0");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.copier = copier;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        Entry<K, V> entry = key != null ? entries.get(key) : null;
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(ticker.getAsLong())) {
+            evictionLock.lock();
+            try {
+                if (entries.remove(key, entry)) {
+                    accessOrder.remove(key);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+            return null;
+        }
+        recordRead(entry);
+        return copier.apply(entry.value);
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (key == null) {
+            return loader.apply(null);
+        }
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        long generation = generation(key);
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value, generation);
+        }
+        return value;
+    }
+
+    @Override
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<? super Set<K>, ? extends Map<K, ? extends V>> loader) {
+        Map<K, V> result = new LinkedHashMap<>();
+        Map<K, Long> missing = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (key == null || result.containsKey(key) || missing.containsKey(key)) {
+                continue;
+            }
+            V value = getIfPresent(key);
+            if (value != null) {
+                result.put(key, value);
+            } else {
+                missing.put(key, generation(key));
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        loader.apply(new LinkedHashSet<>(missing.keySet())).forEach((key, value) -> {
+            Long generation = missing.get(key);
+            if (generation == null || value == null) {
+                return;
+            }
+            put(key, value, generation);
+            result.put(key, value);
+        });
+        return result;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        put(key, value, -1L);
+    }
+
+    @Override
+    public void evict(K key) {
+        if (key == null) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            generations.incrementAndGet(stripe(key));
+            if (entries.remove(key) != null) {
+                accessOrder.remove(key);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (int i = 0; i < GENERATION_STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            entries.clear();
+            accessOrder.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 当前缓存条目数量（可能包含尚未清理的过期条目）
+     *
+     * @return 条目数量
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 写入缓存，expectedGeneration 不为 -1 且键在此之后被失效时不写入
+     */
+    private void put(K key, V value, long expectedGeneration) {
+        Entry<K, V> entry = new Entry<>(key, copier.apply(value), ticker.getAsLong() + ttlNanos);
+        evictionLock.lock();
+        try {
+            if (expectedGeneration != -1L && generations.get(stripe(key)) != expectedGeneration) {
+                return;
+            }
+            drainReadBuffer();
+            entries.put(key, entry);
+            accessOrder.put(key, entry);
+            Iterator<Entry<K, V>> iterator = accessOrder.values().iterator();
+            while (accessOrder.size() > maxSize) {
+                Entry<K, V> eldest = iterator.next();
+                iterator.remove();
+                entries.remove(eldest.key, eldest);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void recordRead(Entry<K, V> entry) {
+        if (readBufferSize.get() < READ_BUFFER_SIZE) {
+            readBufferSize.incrementAndGet();
+            readBuffer.offer(entry);
+        }
+        if (readBufferSize.get() >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 将读缓冲区中的访问记录回放到访问顺序中，调用时必须持有 evictionLock
+     */
+    private void drainReadBuffer() {
+        Entry<K, V> entry;
+        while ((entry = readBuffer.poll()) != null) {
+            readBufferSize.decrementAndGet();
+            // 按访问顺序排列的 LinkedHashMap 在 get 时把条目移到末尾，已删除的键不受影响
+            accessOrder.get(entry.key);
+        }
+    }
+
+    private long generation(K key) {
+        return generations.get(stripe(key));
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expireAt;
+
+        private Entry(K key, V value, long expireAt) {
+            this.key = key;
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expireAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.youngerier.support.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 两级缓存：先查本地缓存，未命中时查分布式缓存并回填本地缓存，写入与失效同时作用于两级。
+ * 失效只作用于当前节点的本地缓存，其他节点的本地缓存在过期前可能读到旧值。
+ * 加载时先经过本地缓存的 {@link EntityCache#get}/{@link EntityCache#getAll}，加载期间的失效由本地缓存处理；
+ * 分布式缓存的回填是否防止覆盖失效取决于 {@link DistributedCacheProvider} 的实现。
+ *
+ * @param <K> 缓存键类型
+ * @param <V> 缓存值类型
+ */
+public class TieredEntityCache<K, V> implements EntityCache<K, V> {
+
+    private final EntityCache<K, V> local;
+
+    private final EntityCache<K, V> remote;
+
+    public TieredEntityCache(EntityCache<K, V> local, EntityCache<K, V> remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        V value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = remote.getIfPresent(key);
+        if (value != null) {
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return local.get(key, k -> remote.get(k, loader));
+    }
+
+    @Override
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<? super Set<K>, ? extends Map<K, ? extends V>> loader) {
+        return local.getAll(keys, missingKeys -> remote.getAll(missingKeys, loader));
+    }
+
+    @Override
+    public void put(K key, V value) {
+        remote.put(key, value);
+        local.put(key, value);
+    }
+
+    @Override
+    public void evict(K key) {
+        remote.evict(key);
+        local.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+    }
+}
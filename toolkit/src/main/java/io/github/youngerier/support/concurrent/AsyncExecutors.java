@@ -0,0 +1,105 @@
+package io.github.youngerier.support.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 生成的异步 Service 使用的执行器。
+ *
+ * <p>默认在 JDK 21 及以上使用虚拟线程（每个任务一个虚拟线程），低版本 JDK 退化为有界的守护线程池：
+ * 线程数与等待队列都有上限，队列满时由提交任务的线程直接执行，避免突发请求无限创建线程；
+ * 可以通过 {@link #configure(Executor)} 替换为自定义执行器。
+ *
+ * <p>任务在执行器线程上运行，不会继承提交线程的请求上下文（{@code RequestContextHolder}），
+ * 因此不能在异步任务中使用请求作用域的 Bean（如生成的 {@code XxxBatchLoader}）；
+ * Servlet 线程返回后请求上下文即被标记为结束，即使手动传递也无法安全使用。
+ */
+@Slf4j
+public final class AsyncExecutors {
+
+    /**
+     * 有界线程池的等待队列容量
+     */
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private static volatile Executor configured;
+
+    private AsyncExecutors() {
+        throw new AssertionError();
+    }
+
+    /**
+     * 获取当前配置的执行器，未配置时使用默认执行器，默认执行器在首次使用时创建且只创建一次
+     *
+     * @return 执行器
+     */
+    public static Executor get() {
+        Executor executor = configured;
+        return executor != null ? executor : DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * 配置生成代码使用的执行器
+     *
+     * @param executor 执行器，为 null 时恢复使用默认执行器
+     */
+    public static void configure(Executor executor) {
+        configured = executor;
+    }
+
+    /**
+     * 创建默认执行器：优先使用虚拟线程，不支持时使用有界线程池
+     *
+     * @return 执行器
+     */
+    public static ExecutorService newDefaultExecutor() {
+        try {
+            // 通过反射调用，保持 Java 17 编译兼容
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.debug("virtual threads are not available, fall back to bounded thread pool");
+            return newBoundedExecutor(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), QUEUE_CAPACITY);
+        }
+    }
+
+    /**
+     * 创建有界线程池，空闲线程超时回收，队列满时由提交任务的线程执行
+     *
+     * @param threads       最大线程数
+     * @param queueCapacity 等待队列容量
+     * @return 执行器
+     */
+    public static ExecutorService newBoundedExecutor(int threads, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new DaemonThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 类加载时创建默认执行器，由 JVM 保证只创建一次
+     */
+    private static final class DefaultExecutorHolder {
+        private static final ExecutorService EXECUTOR = newDefaultExecutor();
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "codegen-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.youngerier.support.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 游标（keyset）分页结果，按主键顺序翻页，不需要 OFFSET 与 COUNT 查询
+ */
+@Data
+@AllArgsConstructor
+public class CursorPagination<T> implements Serializable {
+
+    /**
+     * 当前页记录
+     */
+    private List<T> records;
+
+    /**
+     * 查询大小
+     */
+    private int querySize;
+
+    /**
+     * 下一页游标，即当前页最后一条记录的主键，没有下一页时为 null
+     */
+    private Long nextCursor;
+
+    /**
+     * 是否还有下一页
+     */
+    private boolean hasMore;
+
+    public static <T> CursorPagination<T> empty(int querySize) {
+        return new CursorPagination<>(Collections.emptyList(), querySize, null, false);
+    }
+
+    /**
+     * 构建游标分页结果，调用方应多查询一条记录（querySize + 1）用于判断是否还有下一页
+     *
+     * @param fetched      查询到的记录，最多 querySize + 1 条
+     * @param querySize    查询大小
+     * @param keyExtractor 游标字段提取函数
+     * @return 游标分页结果
+     */
+    public static <T> CursorPagination<T> of(List<T> fetched, int querySize, Function<T, Long> keyExtractor) {
+        if (fetched == null || fetched.isEmpty()) {
+            return empty(querySize);
+        }
+        boolean hasMore = fetched.size() > querySize;
+        List<T> records = hasMore ? fetched.subList(0, querySize) : fetched;
+        Long nextCursor = hasMore ? keyExtractor.apply(records.get(records.size() - 1)) : null;
+        return new CursorPagination<>(records, querySize, nextCursor, hasMore);
+    }
+
+    /**
+     * 转换记录类型
+     *
+     * @param converter 转换函数
+     * @return 转换后的游标分页结果
+     */
+    public <R> CursorPagination<R> map(Function<T, R> converter) {
+        List<R> convertedRecords = new ArrayList<>(records.size());
+        for (T record : records) {
+            convertedRecords.add(converter.apply(record));
+        }
+        return new CursorPagination<>(convertedRecords, querySize, nextCursor, hasMore);
+    }
+}
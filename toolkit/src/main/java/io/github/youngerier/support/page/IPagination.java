@@ -7,6 +7,11 @@ import java.util.List;
 
 public interface IPagination<T> extends Serializable {
 
+    /**
+     * 未统计总数（例如 {@link QueryType#QUERY_RECORDS}）时的总数取值
+     */
+    long UNKNOWN_TOTAL = -1L;
+
     long getTotal();
 
     List<T> getRecords();
@@ -29,14 +34,35 @@ public interface IPagination<T> extends Serializable {
         return !hasRecords();
     }
 
+    /**
+     * 是否统计了总数
+     *
+     * @return 总数已知时返回 true
+     */
+    default boolean isTotalKnown() {
+        return getTotal() >= 0;
+    }
+
+    /**
+     * 总页数，总数未知时返回 {@link #UNKNOWN_TOTAL}
+     */
     default int getTotalPages() {
+        if (!isTotalKnown()) {
+            return (int) UNKNOWN_TOTAL;
+        }
         if (getQuerySize() <= 0) {
             return 0;
         }
         return (int) Math.ceil((double) getTotal() / getQuerySize());
     }
 
+    /**
+     * 是否有下一页，总数未知时以当前页是否已满作为判断依据
+     */
     default boolean hasNext() {
+        if (!isTotalKnown()) {
+            return getQuerySize() > 0 && getRecordCount() >= getQuerySize();
+        }
         return getQueryPage() < getTotalPages();
     }
 
@@ -42,6 +42,17 @@ public class Pagination<T> implements IPagination<T> {
         );
     }
 
+    /**
+     * 构建未统计总数的分页结果
+     *
+     * @param page  记录列表
+     * @param query 查询参数
+     * @return 分页结果，总数为 {@link IPagination#UNKNOWN_TOTAL}
+     */
+    public static <T> Pagination<T> ofUnknownTotal(List<T> page, AbstractPageQuery<?> query) {
+        return of(page, query, UNKNOWN_TOTAL);
+    }
+
     /**
      * 转换分页结果类型
      *
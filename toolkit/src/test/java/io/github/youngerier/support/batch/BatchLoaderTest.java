@@ -0,0 +1,109 @@
+package io.github.youngerier.support.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BatchLoader 类的单元测试
+ */
+class BatchLoaderTest {
+
+    private final List<List<Long>> batches = new ArrayList<>();
+
+    @Test
+    void loadsRegisteredKeysInOneBatch() {
+        BatchLoader<Long, String> loader = newLoader(100);
+        CompletableFuture<String> first = loader.load(1L);
+        CompletableFuture<String> second = loader.load(2L);
+
+        assertEquals("v3", loader.get(3L));
+
+        assertEquals(List.of(List.of(1L, 2L, 3L)), batches);
+        assertEquals("v1", first.join());
+        assertEquals("v2", second.join());
+    }
+
+    @Test
+    void splitsBatchesByMaxBatchSize() {
+        BatchLoader<Long, String> loader = newLoader(2);
+
+        Map<Long, String> values = loader.getAll(List.of(1L, 2L, 3L, 4L, 5L));
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), batches);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), new ArrayList<>(values.keySet()));
+    }
+
+    @Test
+    void deduplicatesKeysAndCachesLoadedValues() {
+        BatchLoader<Long, String> loader = newLoader(100);
+
+        CompletableFuture<String> future = loader.load(1L);
+        assertSame(future, loader.load(1L));
+        Map<Long, String> values = loader.getAll(Arrays.asList(1L, 2L, 1L, null, 2L));
+        assertEquals("v1", loader.get(1L));
+
+        assertEquals(List.of(List.of(1L, 2L)), batches);
+        assertEquals(Map.of(1L, "v1", 2L, "v2"), values);
+        assertNull(loader.get(null));
+    }
+
+    @Test
+    void omitsMissingKeysAndReloadsAfterClear() {
+        BatchLoader<Long, String> loader = newLoader(100);
+
+        Map<Long, String> values = loader.getAll(List.of(1L, 404L));
+        assertTrue(values.containsKey(1L));
+        assertEquals(1, values.size());
+        assertNull(loader.get(404L));
+
+        loader.clear();
+        loader.get(1L);
+
+        assertEquals(List.of(List.of(1L, 404L), List.of(1L)), batches);
+    }
+
+    @Test
+    void failedBatchCanBeRetried() {
+        RuntimeException failure = new IllegalStateException("down");
+        boolean[] fail = {true};
+        BatchLoader<Long, String> loader = new BatchLoader<>(keys -> {
+            if (fail[0]) {
+                throw failure;
+            }
+            return load(keys);
+        }, 100);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> loader.get(1L)));
+
+        fail[0] = false;
+        assertEquals("v1", loader.get(1L));
+    }
+
+    private BatchLoader<Long, String> newLoader(int maxBatchSize) {
+        return new BatchLoader<>(this::load, maxBatchSize);
+    }
+
+    private Map<Long, String> load(Collection<Long> keys) {
+        batches.add(new ArrayList<>(keys));
+        Map<Long, String> values = new HashMap<>();
+        for (Long key : keys) {
+            if (key != 404L) {
+                values.put(key, "v" + key);
+            }
+        }
+        return values;
+    }
+}
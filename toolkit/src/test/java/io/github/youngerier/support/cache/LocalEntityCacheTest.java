@@ -0,0 +1,165 @@
+package io.github.youngerier.support.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * LocalEntityCache 类的单元测试
+ */
+class LocalEntityCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void evictsLeastRecentlyAccessedEntryWhenFull() {
+        LocalEntityCache<Long, String> cache = newCache(2, Duration.ofMinutes(1), UnaryOperator.identity());
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        // 访问 1 后 2 成为最久未访问的条目
+        assertEquals("a", cache.getIfPresent(1L));
+
+        cache.put(3L, "c");
+
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+        assertEquals("c", cache.getIfPresent(3L));
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        LocalEntityCache<Long, String> cache = newCache(10, Duration.ofSeconds(30), UnaryOperator.identity());
+        cache.put(1L, "a");
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        cache.put(2L, "b");
+
+        assertEquals("a", cache.getIfPresent(1L));
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("b", cache.getIfPresent(2L));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void readDoesNotExtendTtl() {
+        LocalEntityCache<Long, String> cache = newCache(10, Duration.ofSeconds(30), UnaryOperator.identity());
+        cache.put(1L, "a");
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertEquals("a", cache.getIfPresent(1L));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    @Test
+    void copiesValuesOnPutAndGet() {
+        LocalEntityCache<Long, List<String>> cache = newCache(10, Duration.ofMinutes(1), ArrayList::new);
+        List<String> value = new ArrayList<>(List.of("a"));
+        cache.put(1L, value);
+        value.add("changed after put");
+
+        List<String> first = cache.getIfPresent(1L);
+        first.add("changed after get");
+
+        assertEquals(List.of("a"), cache.getIfPresent(1L));
+        assertNotSame(first, cache.getIfPresent(1L));
+    }
+
+    @Test
+    void loadsMissingValueOnce() {
+        LocalEntityCache<Long, String> cache = newCache(10, Duration.ofMinutes(1), UnaryOperator.identity());
+        AtomicLong loads = new AtomicLong();
+
+        assertEquals("1", cache.get(1L, key -> loads.incrementAndGet() + ""));
+        assertEquals("1", cache.get(1L, key -> loads.incrementAndGet() + ""));
+        assertNull(cache.get(2L, key -> null));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void doesNotCacheValueLoadedBeforeEviction() {
+        LocalEntityCache<Long, String> cache = newCache(10, Duration.ofMinutes(1), UnaryOperator.identity());
+
+        // 加载旧值期间更新提交并失效缓存
+        assertEquals("old", cache.get(1L, key -> {
+            cache.evict(key);
+            return "old";
+        }));
+        assertNull(cache.getIfPresent(1L));
+
+        assertEquals("new", cache.get(1L, key -> "new"));
+        assertEquals("new", cache.getIfPresent(1L));
+    }
+
+    @Test
+    void doesNotCacheValuesLoadedBeforeClear() {
+        LocalEntityCache<Long, String> cache = newCache(10, Duration.ofMinutes(1), UnaryOperator.identity());
+
+        Map<Long, String> values = cache.getAll(List.of(1L, 2L), keys -> {
+            cache.clear();
+            return Map.of(1L, "a", 2L, "b");
+        });
+
+        assertEquals(Map.of(1L, "a", 2L, "b"), values);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void loadsOnlyMissingKeysInOneBatch() {
+        LocalEntityCache<Long, String> cache = newCache(10, Duration.ofMinutes(1), UnaryOperator.identity());
+        cache.put(1L, "a");
+        List<Set<Long>> batches = new ArrayList<>();
+
+        Map<Long, String> values = cache.getAll(Arrays.asList(1L, 2L, null, 3L, 2L), keys -> {
+            batches.add(keys);
+            return Map.of(2L, "b");
+        });
+
+        assertEquals(List.of(Set.of(2L, 3L)), batches);
+        assertEquals(Map.of(1L, "a", 2L, "b"), values);
+        assertEquals("b", cache.getIfPresent(2L));
+        assertNull(cache.getIfPresent(3L));
+    }
+
+    @Test
+    void staysWithinMaxSizeUnderConcurrentAccess() throws InterruptedException {
+        LocalEntityCache<Long, String> cache = newCache(100, Duration.ofMinutes(1), UnaryOperator.identity());
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            long offset = i * 1000L;
+            threads[i] = new Thread(() -> {
+                for (long key = 0; key < 1000; key++) {
+                    cache.get(offset + key % 150, String::valueOf);
+                    cache.getIfPresent(offset + key % 50);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(100, cache.size());
+    }
+
+    private <V> LocalEntityCache<Long, V> newCache(int maxSize, Duration ttl, UnaryOperator<V> copier) {
+        return new LocalEntityCache<>(maxSize, ttl, copier, now::get);
+    }
+}